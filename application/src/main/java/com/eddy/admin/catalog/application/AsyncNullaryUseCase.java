@@ -0,0 +1,22 @@
+package com.eddy.admin.catalog.application;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncNullaryUseCase<OUT> {
+
+    public abstract CompletionStage<OUT> execute();
+
+    public static <OUT> AsyncNullaryUseCase<OUT> of(final NullaryUseCase<OUT> useCase, final Executor executor) {
+        Objects.requireNonNull(useCase);
+        Objects.requireNonNull(executor);
+        return new AsyncNullaryUseCase<>() {
+            @Override
+            public CompletionStage<OUT> execute() {
+                return CompletableFuture.supplyAsync(useCase::execute, executor);
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.eddy.admin.catalog.application;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncUnitCase<IN> {
+
+    public abstract CompletionStage<Void> execute(IN in);
+
+    public static <IN> AsyncUnitCase<IN> of(final UnitCase<IN> useCase, final Executor executor) {
+        Objects.requireNonNull(useCase);
+        Objects.requireNonNull(executor);
+        return new AsyncUnitCase<>() {
+            @Override
+            public CompletionStage<Void> execute(final IN in) {
+                return CompletableFuture.runAsync(() -> useCase.execute(in), executor);
+            }
+        };
+    }
+}
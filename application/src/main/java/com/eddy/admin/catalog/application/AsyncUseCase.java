@@ -0,0 +1,22 @@
+package com.eddy.admin.catalog.application;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncUseCase<IN, OUT> {
+
+    public abstract CompletionStage<OUT> execute(IN in);
+
+    public static <IN, OUT> AsyncUseCase<IN, OUT> of(final UseCase<IN, OUT> useCase, final Executor executor) {
+        Objects.requireNonNull(useCase);
+        Objects.requireNonNull(executor);
+        return new AsyncUseCase<>() {
+            @Override
+            public CompletionStage<OUT> execute(final IN in) {
+                return CompletableFuture.supplyAsync(() -> useCase.execute(in), executor);
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.eddy.admin.catalog.application.category.create.batch;
+
+import com.eddy.admin.catalog.application.UseCase;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryOutput;
+import com.eddy.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class BatchCreateCategoryUseCase
+        extends UseCase<List<CreateCategoryCommand>, List<Either<Notification, CreateCategoryOutput>>> {
+}
@@ -0,0 +1,54 @@
+package com.eddy.admin.catalog.application.category.create.batch;
+
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryOutput;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBatchCreateCategoryUseCase extends BatchCreateCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBatchCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> commands) {
+
+        final var results = new ArrayList<Either<Notification, Category>>(commands.size());
+        final var validCategories = new ArrayList<Category>(commands.size());
+
+        for (final var aCommand : commands) {
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+
+            final var notification = Notification.create();
+            aCategory.validate(notification);
+
+            if (notification.hasErrors()) {
+                results.add(API.Left(notification));
+            } else {
+                results.add(API.Right(aCategory));
+                validCategories.add(aCategory);
+            }
+        }
+
+        final var created = validCategories.isEmpty()
+                ? Try.success(List.<Category>of())
+                : Try.of(() -> this.categoryGateway.createAll(validCategories));
+
+        return results.stream()
+                .map(result -> result.flatMap(aCategory -> created
+                        .toEither()
+                        .bimap(Notification::create, ignored -> CreateCategoryOutput.from(aCategory))))
+                .toList();
+    }
+}
@@ -0,0 +1,185 @@
+package com.eddy.admin.catalog.application.category.create.imports;
+
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates lines on the calling thread and hands full batches to a writer, run on {@code writerExecutor}, through
+ * a bounded queue. When the writer falls behind the caller stops reading its input; when it stops, or does not
+ * take a batch within {@code handOffTimeout}, the import is aborted instead of waiting forever.
+ */
+public class DefaultImportCategoryUseCase extends ImportCategoryUseCase {
+
+    private static final List<PendingCategory> END_OF_IMPORT = new ArrayList<>(0);
+    private static final long WRITER_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final CategoryGateway categoryGateway;
+    private final Executor writerExecutor;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxReportedErrors;
+    private final Duration handOffTimeout;
+
+    public DefaultImportCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final Executor writerExecutor,
+            final int batchSize,
+            final int queueCapacity,
+            final int maxReportedErrors,
+            final Duration handOffTimeout
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.writerExecutor = Objects.requireNonNull(writerExecutor);
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxReportedErrors = maxReportedErrors;
+        this.handOffTimeout = Objects.requireNonNull(handOffTimeout);
+    }
+
+    @Override
+    public ImportCategoryOutput execute(final Iterator<ImportCategoryLine> lines) {
+        final var report = new Report(maxReportedErrors);
+        final var queue = new ArrayBlockingQueue<List<PendingCategory>>(queueCapacity);
+        final var writer = new FutureTask<Void>(() -> write(queue, report), null);
+        writerExecutor.execute(writer);
+
+        var count = 0L;
+        var batch = new ArrayList<PendingCategory>(batchSize);
+
+        try {
+            while (lines.hasNext()) {
+                final var aLine = lines.next();
+                final var aCategory = aLine.command().flatMap(DefaultImportCategoryUseCase::validate);
+                count++;
+
+                if (aCategory.isLeft()) {
+                    report.failed(aLine.number(), aCategory.getLeft());
+                    continue;
+                }
+
+                batch.add(new PendingCategory(aLine.number(), aCategory.get()));
+
+                if (batch.size() == batchSize) {
+                    handOff(queue, batch, writer);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                handOff(queue, batch, writer);
+            }
+
+            handOff(queue, END_OF_IMPORT, writer);
+            writer.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Category import was interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Category import writer failed", e.getCause());
+        } finally {
+            if (!writer.isDone()) {
+                writer.cancel(true);
+            }
+        }
+
+        return report.toOutput(count);
+    }
+
+    private void handOff(
+            final BlockingQueue<List<PendingCategory>> queue,
+            final List<PendingCategory> batch,
+            final FutureTask<Void> writer
+    ) throws InterruptedException, ExecutionException {
+        final var deadline = System.nanoTime() + handOffTimeout.toNanos();
+
+        while (!queue.offer(batch, WRITER_CHECK_INTERVAL_NANOS, TimeUnit.NANOSECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new IllegalStateException("Category import writer stopped before the end of the import");
+            }
+
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Category import writer did not take a batch within " + handOffTimeout);
+            }
+        }
+    }
+
+    private void write(final BlockingQueue<List<PendingCategory>> queue, final Report report) {
+        try {
+            while (true) {
+                final var batch = queue.take();
+
+                if (batch == END_OF_IMPORT) {
+                    return;
+                }
+
+                final var categories = batch.stream().map(PendingCategory::category).toList();
+
+                Try.run(() -> this.categoryGateway.createAll(categories))
+                        .onSuccess(ignored -> report.imported(batch.size()))
+                        .onFailure(t -> batch.forEach(it -> report.failed(it.line(), Notification.create(t))));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Either<Notification, Category> validate(final CreateCategoryCommand aCommand) {
+        final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+
+        final var notification = Notification.create();
+        aCategory.validate(notification);
+
+        return notification.hasErrors() ? API.Left(notification) : API.Right(aCategory);
+    }
+
+    private record PendingCategory(long line, Category category) {
+    }
+
+    private static class Report {
+
+        private final int maxErrors;
+        private final List<ImportCategoryError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private Report(final int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        synchronized void imported(final int count) {
+            imported += count;
+        }
+
+        synchronized void failed(final long line, final Notification notification) {
+            failed++;
+
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportCategoryError(line, notification.getErrors()));
+            }
+        }
+
+        synchronized ImportCategoryOutput toOutput(final long lines) {
+            errors.sort(Comparator.comparingLong(ImportCategoryError::line));
+            return new ImportCategoryOutput(lines, imported, failed, List.copyOf(errors));
+        }
+    }
+}
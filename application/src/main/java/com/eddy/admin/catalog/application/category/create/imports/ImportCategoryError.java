@@ -0,0 +1,11 @@
+package com.eddy.admin.catalog.application.category.create.imports;
+
+import com.eddy.admin.catalog.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportCategoryError(
+        long line,
+        List<Error> errors
+) {
+}
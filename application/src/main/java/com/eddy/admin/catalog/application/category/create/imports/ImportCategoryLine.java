@@ -0,0 +1,20 @@
+package com.eddy.admin.catalog.application.category.create.imports;
+
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+public record ImportCategoryLine(
+        long number,
+        Either<Notification, CreateCategoryCommand> command
+) {
+
+    public static ImportCategoryLine valid(final long number, final CreateCategoryCommand command) {
+        return new ImportCategoryLine(number, API.Right(command));
+    }
+
+    public static ImportCategoryLine invalid(final long number, final Notification notification) {
+        return new ImportCategoryLine(number, API.Left(notification));
+    }
+}
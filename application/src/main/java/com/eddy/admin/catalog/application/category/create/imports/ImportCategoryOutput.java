@@ -0,0 +1,14 @@
+package com.eddy.admin.catalog.application.category.create.imports;
+
+import java.util.List;
+
+/**
+ * {@code errors} is capped, {@code failed} counts every line that was not imported.
+ */
+public record ImportCategoryOutput(
+        long lines,
+        long imported,
+        long failed,
+        List<ImportCategoryError> errors
+) {
+}
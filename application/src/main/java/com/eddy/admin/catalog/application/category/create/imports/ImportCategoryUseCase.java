@@ -0,0 +1,8 @@
+package com.eddy.admin.catalog.application.category.create.imports;
+
+import com.eddy.admin.catalog.application.UseCase;
+
+import java.util.Iterator;
+
+public abstract class ImportCategoryUseCase extends UseCase<Iterator<ImportCategoryLine>, ImportCategoryOutput> {
+}
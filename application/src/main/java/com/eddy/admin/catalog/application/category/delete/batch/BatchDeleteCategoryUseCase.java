@@ -0,0 +1,8 @@
+package com.eddy.admin.catalog.application.category.delete.batch;
+
+import com.eddy.admin.catalog.application.UnitCase;
+
+import java.util.List;
+
+public abstract class BatchDeleteCategoryUseCase extends UnitCase<List<String>> {
+}
@@ -0,0 +1,22 @@
+package com.eddy.admin.catalog.application.category.delete.batch;
+
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBatchDeleteCategoryUseCase extends BatchDeleteCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBatchDeleteCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final List<String> anIn) {
+
+        this.categoryGateway.deleteByIds(anIn.stream().map(CategoryID::from).toList());
+    }
+}
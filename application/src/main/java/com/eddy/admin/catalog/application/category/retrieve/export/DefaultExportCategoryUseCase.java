@@ -0,0 +1,21 @@
+package com.eddy.admin.catalog.application.category.retrieve.export;
+
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoryUseCase extends ExportCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryListOutput> anOutput) {
+        this.categoryGateway.forEachListItem(item -> anOutput.accept(CategoryListOutput.from(item)));
+    }
+}
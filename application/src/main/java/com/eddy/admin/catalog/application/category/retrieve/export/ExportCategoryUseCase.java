@@ -0,0 +1,9 @@
+package com.eddy.admin.catalog.application.category.retrieve.export;
+
+import com.eddy.admin.catalog.application.UnitCase;
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoryUseCase extends UnitCase<Consumer<CategoryListOutput>> {
+}
@@ -2,6 +2,7 @@ package com.eddy.admin.catalog.application.category.retrieve.list;
 
 import com.eddy.admin.catalog.domain.category.Category;
 import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
 
 import java.time.Instant;
 
@@ -24,4 +25,15 @@ public record CategoryListOutput(
                 category.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(final CategoryListItem item) {
+        return new CategoryListOutput(
+                item.id(),
+                item.name(),
+                item.description(),
+                item.active(),
+                item.createdAt(),
+                item.deletedAt()
+        );
+    }
 }
@@ -16,7 +16,7 @@ public class DefaultListCategoryUseCase extends ListCategoryUseCase {
 
     @Override
     public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery)
+        return this.categoryGateway.findListItems(aQuery)
                 .map(CategoryListOutput::from);
     }
 }
@@ -3,12 +3,15 @@ package com.eddy.admin.catalog.application.category.update;
 import com.eddy.admin.catalog.domain.category.Category;
 import com.eddy.admin.catalog.domain.category.CategoryGateway;
 import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.exceptions.ConflictException;
 import com.eddy.admin.catalog.domain.exceptions.DomainException;
 import com.eddy.admin.catalog.domain.exceptions.NotFoundException;
 import com.eddy.admin.catalog.domain.validation.handler.Notification;
 import io.vavr.API;
 import io.vavr.control.Either;
 
+import java.time.Instant;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
@@ -23,8 +26,12 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand categoryCommand) {
 
+        if (Objects.nonNull(categoryCommand.version())) {
+            return updateIfVersionMatches(categoryCommand);
+        }
+
         final var categoryID = CategoryID.from(categoryCommand.id());
-        final var aCategory = categoryGateway.getById(categoryID)
+        final var aCategory = categoryGateway.getLatestById(categoryID)
                 .orElseThrow(categoryNotFound(categoryCommand));
 
         final var notification = Notification.create();
@@ -34,12 +41,43 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         return notification.hasErrors() ? API.Left(notification) : update(aCategory);
     }
 
+    // no read: the row is written only if it is still at the version the client has seen
+    private Either<Notification, UpdateCategoryOutput> updateIfVersionMatches(final UpdateCategoryCommand categoryCommand) {
+        final var now = Instant.now();
+        final var aCategory = Category.with(
+                CategoryID.from(categoryCommand.id()),
+                categoryCommand.name(),
+                categoryCommand.description(),
+                categoryCommand.isActive(),
+                now,
+                now,
+                categoryCommand.isActive() ? null : now,
+                categoryCommand.version()
+        );
+
+        final var notification = Notification.create();
+        aCategory.validate(notification);
+
+        if (notification.hasErrors()) {
+            return API.Left(notification);
+        }
+
+        final var newVersion = categoryGateway.updateIfVersionMatches(aCategory);
+        return API.Right(UpdateCategoryOutput.from(aCategory.getId().getValue(), newVersion));
+    }
+
     private static Supplier<DomainException> categoryNotFound(final UpdateCategoryCommand categoryCommand) {
         return () -> NotFoundException.with(Category.class, CategoryID.from(categoryCommand.id()));
     }
 
+    // a concurrent update is not a validation error: it propagates so the client gets a 409
     private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return API.Try(() -> this.categoryGateway.update(category))
+        final var result = API.Try(() -> this.categoryGateway.update(category));
+        if (result.isFailure() && result.getCause() instanceof ConflictException conflict) {
+            throw conflict;
+        }
+
+        return result
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
@@ -4,10 +4,15 @@ public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        Long version
 ) {
 
     public static UpdateCategoryCommand with(String id, String name, String description, boolean isActive) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return new UpdateCategoryCommand(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(String id, String name, String description, boolean isActive, Long version) {
+        return new UpdateCategoryCommand(id, name, description, isActive, version);
     }
 }
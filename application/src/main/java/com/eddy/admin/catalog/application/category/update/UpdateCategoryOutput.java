@@ -4,14 +4,19 @@ import com.eddy.admin.catalog.domain.category.Category;
 import com.eddy.admin.catalog.domain.category.CategoryID;
 
 public record UpdateCategoryOutput(
-        String id
+        String id,
+        Long version
 ) {
 
     public static UpdateCategoryOutput from(final String categoryId) {
-        return new UpdateCategoryOutput(categoryId);
+        return new UpdateCategoryOutput(categoryId, null);
+    }
+
+    public static UpdateCategoryOutput from(final String categoryId, final long version) {
+        return new UpdateCategoryOutput(categoryId, version);
     }
 
     public static UpdateCategoryOutput from(final Category category) {
-        return new UpdateCategoryOutput(category.getId().getValue());
+        return new UpdateCategoryOutput(category.getId().getValue(), category.getVersion());
     }
 }
@@ -0,0 +1,45 @@
+package com.eddy.admin.catalog.application;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class AsyncUseCaseTest {
+
+    @Test
+    void shouldRunTheUseCaseOnTheGivenExecutor() {
+        final var useCase = new UseCase<String, String>() {
+            @Override
+            public String execute(final String in) {
+                return in + " on " + Thread.currentThread().getName();
+            }
+        };
+
+        try (final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "use-case-test"))) {
+            final var output = AsyncUseCase.of(useCase, executor).execute("Movies")
+                    .toCompletableFuture()
+                    .join();
+
+            Assertions.assertEquals("Movies on use-case-test", output);
+        }
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenTheUseCaseFails() {
+        final var expectedError = new IllegalStateException("Gateway error");
+        final var useCase = new UnitCase<String>() {
+            @Override
+            public void execute(final String in) {
+                throw expectedError;
+            }
+        };
+
+        final var future = AsyncUnitCase.of(useCase, Runnable::run).execute("Movies").toCompletableFuture();
+
+        final var actualException = Assertions.assertThrows(CompletionException.class, future::join);
+        Assertions.assertSame(expectedError, actualException.getCause());
+    }
+}
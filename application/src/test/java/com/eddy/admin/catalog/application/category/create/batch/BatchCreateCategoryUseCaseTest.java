@@ -0,0 +1,80 @@
+package com.eddy.admin.catalog.application.category.create.batch;
+
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.eddy.admin.catalog.domain.category.CategoryValidator.NAME_SHOULD_NOT_BE_NULL_OR_BLANK;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchCreateCategoryUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGatewayMocked;
+
+    @InjectMocks
+    private DefaultBatchCreateCategoryUseCase useCase;
+
+    @Test
+    void shouldCreateAllValidCategoriesInASingleGatewayCall() {
+        final var commands = List.of(
+                CreateCategoryCommand.with("Movies", "Movies description", true),
+                CreateCategoryCommand.with(null, "Invalid", true),
+                CreateCategoryCommand.with("Series", null, false)
+        );
+
+        when(categoryGatewayMocked.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertEquals(3, actualResults.size());
+        Assertions.assertTrue(actualResults.get(0).isRight());
+        Assertions.assertNotNull(actualResults.get(0).get().id());
+        Assertions.assertTrue(actualResults.get(1).isLeft());
+        Assertions.assertEquals(NAME_SHOULD_NOT_BE_NULL_OR_BLANK,
+                actualResults.get(1).getLeft().getErrors().get(0).message());
+        Assertions.assertTrue(actualResults.get(2).isRight());
+
+        verify(categoryGatewayMocked, times(1)).createAll(argThat(categories -> categories.size() == 2
+                && categories.get(0).getName().equals("Movies")
+                && categories.get(1).getName().equals("Series")));
+    }
+
+    @Test
+    void shouldNotCallGatewayWhenEveryCommandIsInvalid() {
+        final var commands = List.of(CreateCategoryCommand.with(" ", null, true));
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertEquals(1, actualResults.size());
+        Assertions.assertTrue(actualResults.get(0).isLeft());
+
+        verify(categoryGatewayMocked, never()).createAll(any());
+    }
+
+    @Test
+    void shouldReturnGatewayErrorForEveryValidCommandWhenBatchFails() {
+        final var expectedErrorMessage = "Gateway error";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with(null, null, true)
+        );
+
+        when(categoryGatewayMocked.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertEquals(expectedErrorMessage, actualResults.get(0).getLeft().getErrors().get(0).message());
+        Assertions.assertEquals(NAME_SHOULD_NOT_BE_NULL_OR_BLANK,
+                actualResults.get(1).getLeft().getErrors().get(0).message());
+    }
+}
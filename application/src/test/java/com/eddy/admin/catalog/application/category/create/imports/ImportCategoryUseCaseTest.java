@@ -0,0 +1,130 @@
+package com.eddy.admin.catalog.application.category.create.imports;
+
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.validation.Error;
+import com.eddy.admin.catalog.domain.validation.handler.Notification;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCategoryUseCaseTest {
+
+    private static final Duration HAND_OFF_TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final Executor writerExecutor = task -> new Thread(task, "category-import").start();
+
+    @Test
+    void shouldWriteValidLinesInBatchesAndReportTheInvalidOnes() {
+        final var useCase = new DefaultImportCategoryUseCase(categoryGateway, writerExecutor, 2, 1, 10, HAND_OFF_TIMEOUT);
+
+        final var lines = List.of(
+                ImportCategoryLine.valid(1, CreateCategoryCommand.with("Movies", null, true)),
+                ImportCategoryLine.valid(2, CreateCategoryCommand.with(null, null, true)),
+                ImportCategoryLine.valid(3, CreateCategoryCommand.with("Series", null, true)),
+                ImportCategoryLine.invalid(5, Notification.create(new Error("Unexpected end-of-input"))),
+                ImportCategoryLine.valid(6, CreateCategoryCommand.with("Documentaries", null, false))
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final var actualOutput = useCase.execute(lines.iterator());
+
+        Assertions.assertEquals(5, actualOutput.lines());
+        Assertions.assertEquals(3, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.failed());
+        Assertions.assertEquals(List.of(2L, 5L), actualOutput.errors().stream().map(ImportCategoryError::line).toList());
+        Assertions.assertEquals("Unexpected end-of-input", actualOutput.errors().get(1).errors().get(0).message());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2));
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 1
+                && "Documentaries".equals(categories.get(0).getName())));
+    }
+
+    @Test
+    void shouldReportEveryLineOfABatchWhenTheGatewayFails() {
+        final var useCase = new DefaultImportCategoryUseCase(categoryGateway, writerExecutor, 2, 1, 10, HAND_OFF_TIMEOUT);
+        final var expectedErrorMessage = "Gateway error";
+
+        final var lines = LongStream.rangeClosed(1, 4)
+                .mapToObj(number -> ImportCategoryLine.valid(number, CreateCategoryCommand.with("Category " + number, null, true)))
+                .iterator();
+
+        when(categoryGateway.createAll(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = useCase.execute(lines);
+
+        Assertions.assertEquals(2, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.failed());
+        Assertions.assertEquals(List.of(3L, 4L), actualOutput.errors().stream().map(ImportCategoryError::line).toList());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.errors().get(0).errors().get(0).message());
+    }
+
+    @Test
+    void shouldCapTheReportedErrorsButCountEveryFailedLine() {
+        final var useCase = new DefaultImportCategoryUseCase(categoryGateway, writerExecutor, 10, 1, 3, HAND_OFF_TIMEOUT);
+
+        final var lines = LongStream.rangeClosed(1, 50)
+                .mapToObj(number -> ImportCategoryLine.valid(number, CreateCategoryCommand.with(null, null, true)))
+                .iterator();
+
+        final var actualOutput = useCase.execute(lines);
+
+        Assertions.assertEquals(50, actualOutput.lines());
+        Assertions.assertEquals(0, actualOutput.imported());
+        Assertions.assertEquals(50, actualOutput.failed());
+        Assertions.assertEquals(3, actualOutput.errors().size());
+        verify(categoryGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    void shouldAbortInsteadOfBlockingWhenTheWriterDies() {
+        final var useCase = new DefaultImportCategoryUseCase(categoryGateway, writerExecutor, 1, 1, 10, HAND_OFF_TIMEOUT);
+        final var expectedError = new LinkageError("Writer died");
+
+        final var lines = LongStream.rangeClosed(1, 100)
+                .mapToObj(number -> ImportCategoryLine.valid(number, CreateCategoryCommand.with("Category " + number, null, true)))
+                .iterator();
+
+        when(categoryGateway.createAll(any())).thenThrow(expectedError);
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(lines));
+
+        Assertions.assertSame(expectedError, actualException.getCause());
+        Assertions.assertTrue(lines.hasNext());
+    }
+
+    @Test
+    void shouldAbortWhenTheWriterDoesNotTakeABatchInTime() {
+        final var useCase = new DefaultImportCategoryUseCase(categoryGateway, task -> {}, 1, 1, 10, Duration.ofMillis(200));
+
+        final var lines = LongStream.rangeClosed(1, 100)
+                .mapToObj(number -> ImportCategoryLine.valid(number, CreateCategoryCommand.with("Category " + number, null, true)))
+                .iterator();
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(lines));
+
+        Assertions.assertEquals("Category import writer did not take a batch within PT0.2S", actualException.getMessage());
+        verify(categoryGateway, times(0)).createAll(any());
+    }
+}
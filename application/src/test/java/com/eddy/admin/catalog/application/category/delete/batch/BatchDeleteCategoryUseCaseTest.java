@@ -0,0 +1,46 @@
+package com.eddy.admin.catalog.application.category.delete.batch;
+
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class BatchDeleteCategoryUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultBatchDeleteCategoryUseCase useCase;
+
+    @Test
+    void shouldDeleteAllCategoriesInASingleGatewayCall() {
+        final var expectedIds = List.of(CategoryID.unique(), CategoryID.unique());
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedIds.stream().map(CategoryID::getValue).toList()));
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).deleteByIds(eq(expectedIds));
+    }
+
+    @Test
+    void shouldPropagateExceptionWhenGatewayThrows() {
+        final var expectedErrorMessage = "Gateway error";
+
+        Mockito.doThrow(new IllegalStateException(expectedErrorMessage)).when(categoryGateway).deleteByIds(Mockito.any());
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> useCase.execute(List.of("123")));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package com.eddy.admin.catalog.application.category.retrieve.export;
+
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoryUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultExportCategoryUseCase useCase;
+
+    @Test
+    void shouldHandEachItemToTheConsumerWhenCallExecute() {
+        final var expectedItems = List.of(
+                CategoryListItem.from(Category.newCategory("Category 1", null, true)),
+                CategoryListItem.from(Category.newCategory("Category 2", "Description 2", false))
+        );
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryListItem> action = invocation.getArgument(0);
+            expectedItems.forEach(action);
+            return null;
+        }).when(categoryGateway).forEachListItem(any());
+
+        final var actualOutputs = new ArrayList<CategoryListOutput>();
+        useCase.execute(actualOutputs::add);
+
+        Assertions.assertEquals(expectedItems.stream().map(CategoryListOutput::from).toList(), actualOutputs);
+    }
+}
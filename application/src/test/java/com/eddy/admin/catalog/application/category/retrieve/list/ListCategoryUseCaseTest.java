@@ -2,6 +2,7 @@ package com.eddy.admin.catalog.application.category.retrieve.list;
 
 import com.eddy.admin.catalog.domain.category.Category;
 import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
 import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
 import com.eddy.admin.catalog.domain.pagination.Pagination;
 import org.junit.jupiter.api.Assertions;
@@ -36,8 +37,8 @@ public class ListCategoryUseCaseTest {
     void shouldListCategoriesSuccessfullyWhenCallExecute() {
 
         final var expectedCategories = List.of(
-                Category.newCategory("Category 1", null, true),
-                Category.newCategory("Category 2", "Description 2", true)
+                CategoryListItem.from(Category.newCategory("Category 1", null, true)),
+                CategoryListItem.from(Category.newCategory("Category 2", "Description 2", true))
         );
 
         final var expectedPage = 1;
@@ -54,7 +55,7 @@ public class ListCategoryUseCaseTest {
         final var expectedItemsCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(categorySearchQuery)).thenReturn(expectedPagination);
+        when(categoryGateway.findListItems(categorySearchQuery)).thenReturn(expectedPagination);
 
         final var actualOutput = useCase.execute(categorySearchQuery);
 
@@ -69,7 +70,7 @@ public class ListCategoryUseCaseTest {
 
     @Test
     public void shouldListCategoriesEmptySuccessfullyWhenCallExecute() {
-        final var categories = List.<Category>of();
+        final var categories = List.<CategoryListItem>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -86,7 +87,7 @@ public class ListCategoryUseCaseTest {
         final var expectedItemsCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findListItems(eq(aQuery)))
                 .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -110,7 +111,7 @@ public class ListCategoryUseCaseTest {
         final var aQuery =
                 new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findListItems(eq(aQuery)))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualException =
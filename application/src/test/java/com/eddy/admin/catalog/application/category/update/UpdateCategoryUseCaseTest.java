@@ -5,6 +5,7 @@ import com.eddy.admin.catalog.domain.category.Category;
 import com.eddy.admin.catalog.domain.category.CategoryGateway;
 import com.eddy.admin.catalog.domain.category.CategoryID;
 import com.eddy.admin.catalog.domain.category.CategoryValidator;
+import com.eddy.admin.catalog.domain.exceptions.ConflictException;
 import com.eddy.admin.catalog.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -45,7 +46,7 @@ public class UpdateCategoryUseCaseTest {
 
         final var updateCategoryCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(categoryGateway.getById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
+        Mockito.when(categoryGateway.getLatestById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
         Mockito.when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
         final var actualOutput = useCase.execute(updateCategoryCommand).get();
@@ -53,7 +54,7 @@ public class UpdateCategoryUseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(categoryGateway, times(1)).getById((expectedId));
+        Mockito.verify(categoryGateway, times(1)).getLatestById((expectedId));
 
         Mockito.verify(categoryGateway, times(1)).update(argThat(
                 aUpdatedCategory ->
@@ -81,7 +82,7 @@ public class UpdateCategoryUseCaseTest {
 
         final var updateCategoryCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(categoryGateway.getById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
+        Mockito.when(categoryGateway.getLatestById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
 
         final var notification = useCase.execute(updateCategoryCommand).getLeft();
 
@@ -103,7 +104,7 @@ public class UpdateCategoryUseCaseTest {
 
         final var updateCategoryCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(categoryGateway.getById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
+        Mockito.when(categoryGateway.getLatestById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
         Mockito.when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
         Assertions.assertTrue(aCategory.isActive());
@@ -114,7 +115,7 @@ public class UpdateCategoryUseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(categoryGateway, times(1)).getById((expectedId));
+        Mockito.verify(categoryGateway, times(1)).getLatestById((expectedId));
 
         Mockito.verify(categoryGateway, times(1)).update(argThat(
                 aUpdatedCategory ->
@@ -142,7 +143,7 @@ public class UpdateCategoryUseCaseTest {
 
         final var updateCategoryCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        Mockito.when(categoryGateway.getById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
+        Mockito.when(categoryGateway.getLatestById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
         when(categoryGateway.update(any())).thenThrow(new IllegalArgumentException(expectedErrorMessage));
 
         final var notification = useCase.execute(updateCategoryCommand).getLeft();
@@ -160,6 +161,19 @@ public class UpdateCategoryUseCaseTest {
                         && isNull(category.getDeletedAt())));
     }
 
+    @Test
+    void shouldThrowConflictExceptionInsteadOfANotificationWhenUpdateConflicts() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+
+        Mockito.when(categoryGateway.getLatestById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.update(any())).thenThrow(ConflictException.with(Category.class, expectedId, 0L));
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Movies", null, true);
+
+        Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+    }
+
     @Test
     void shouldReturnANotFoundExceptionWhenCategoryIdIsInvalid() {
 
@@ -169,14 +183,48 @@ public class UpdateCategoryUseCaseTest {
         final var invalidId = "Invalid Id";
         final var expectedErrorMessage = "Category ID %s not found.".formatted(invalidId);
 
-        when(categoryGateway.getById(CategoryID.from(invalidId))).thenReturn(Optional.empty());
+        when(categoryGateway.getLatestById(CategoryID.from(invalidId))).thenReturn(Optional.empty());
 
         final var actualException = Assertions.assertThrows(DomainException.class,
                 () -> useCase.execute(UpdateCategoryCommand.with(invalidId, expectedName, expectedDescription, expectedIsActive)));
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(categoryGateway, times(1)).getById(CategoryID.from(invalidId));
+        verify(categoryGateway, times(1)).getLatestById(CategoryID.from(invalidId));
         verify(categoryGateway, times(0)).update(any());
     }
+
+    @Test
+    void shouldUpdateWithoutReadingWhenCommandHasAVersion() {
+        final var expectedId = CategoryID.unique();
+        final var expectedName = "Category Name";
+        final var expectedVersion = 3L;
+
+        when(categoryGateway.updateIfVersionMatches(any())).thenReturn(expectedVersion + 1);
+
+        final var actualOutput = useCase.execute(
+                UpdateCategoryCommand.with(expectedId.getValue(), expectedName, null, false, expectedVersion)).get();
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertEquals(expectedVersion + 1, actualOutput.version());
+
+        verify(categoryGateway, never()).getLatestById(any());
+        verify(categoryGateway, times(1)).updateIfVersionMatches(argThat(category ->
+                Objects.equals(expectedId, category.getId())
+                        && Objects.equals(expectedName, category.getName())
+                        && !category.isActive()
+                        && nonNull(category.getDeletedAt())
+                        && category.getVersion() == expectedVersion));
+    }
+
+    @Test
+    void shouldNotCallGatewayWhenVersionedCommandIsInvalid() {
+        final var actualNotification = useCase.execute(
+                UpdateCategoryCommand.with(CategoryID.unique().getValue(), " ", null, true, 0L)).getLeft();
+
+        Assertions.assertEquals(CategoryValidator.NAME_SHOULD_NOT_BE_NULL_OR_BLANK,
+                actualNotification.getErrors().get(0).message());
+
+        verify(categoryGateway, never()).updateIfVersionMatches(any());
+    }
 }
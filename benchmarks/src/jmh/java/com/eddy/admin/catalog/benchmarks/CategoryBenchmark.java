@@ -0,0 +1,36 @@
+package com.eddy.admin.catalog.benchmarks;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryBenchmark {
+
+    private final String name = "Movies";
+    private final String description = "The most watched category";
+    private final String invalidName = " ";
+
+    @Benchmark
+    public Notification newValidCategory() {
+        final var notification = Notification.create();
+        Category.newCategory(name, description, true).validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification newInvalidCategory() {
+        final var notification = Notification.create();
+        Category.newCategory(invalidName, description, true).validate(notification);
+        return notification;
+    }
+}
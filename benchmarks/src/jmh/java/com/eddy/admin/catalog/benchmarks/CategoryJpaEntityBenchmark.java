@@ -0,0 +1,38 @@
+package com.eddy.admin.catalog.benchmarks;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryJpaEntityBenchmark {
+
+    private Category category;
+    private CategoryJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        category = Category.newCategory("Movies", "The most watched category", true);
+        entity = CategoryJpaEntity.from(category);
+    }
+
+    @Benchmark
+    public CategoryJpaEntity from() {
+        return CategoryJpaEntity.from(category);
+    }
+
+    @Benchmark
+    public Category toAggregate() {
+        return entity.toAggregate();
+    }
+}
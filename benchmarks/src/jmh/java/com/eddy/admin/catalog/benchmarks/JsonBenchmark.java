@@ -0,0 +1,44 @@
+package com.eddy.admin.catalog.benchmarks;
+
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.eddy.admin.catalog.infrastructure.category.models.ListCategoryResponse;
+import com.eddy.admin.catalog.infrastructure.category.presenter.CategoryApiPresenter;
+import com.eddy.admin.catalog.infrastructure.configuration.json.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int perPage;
+
+    private Pagination<ListCategoryResponse> page;
+
+    @Setup
+    public void setUp() {
+        final var items = new ArrayList<>(Pages.listItems(perPage)
+                .map(CategoryListOutput::from)
+                .map(CategoryApiPresenter::presenter)
+                .items());
+
+        page = new Pagination<>(0, perPage, perPage * 10L, items);
+    }
+
+    @Benchmark
+    public String writePage() {
+        return Json.writeValueAsString(page);
+    }
+}
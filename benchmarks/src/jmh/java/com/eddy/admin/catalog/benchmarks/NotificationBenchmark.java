@@ -0,0 +1,49 @@
+package com.eddy.admin.catalog.benchmarks;
+
+import com.eddy.admin.catalog.domain.validation.Error;
+import com.eddy.admin.catalog.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationBenchmark {
+
+    @Param({"0", "1", "3"})
+    private int errors;
+
+    private Notification other;
+
+    @Setup
+    public void setUp() {
+        other = Notification.create();
+        for (int i = 0; i < errors; i++) {
+            other.append(new Error("'name' should not be null"));
+        }
+    }
+
+    @Benchmark
+    public boolean createAndAppend() {
+        final var notification = Notification.create();
+        for (int i = 0; i < errors; i++) {
+            notification.append(new Error("'name' should not be null"));
+        }
+        return notification.hasErrors();
+    }
+
+    @Benchmark
+    public boolean appendHandler() {
+        return Notification.create()
+                .append(other)
+                .hasErrors();
+    }
+}
@@ -0,0 +1,23 @@
+package com.eddy.admin.catalog.benchmarks;
+
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+final class Pages {
+
+    private Pages() {
+    }
+
+    static Pagination<CategoryListItem> listItems(final int perPage) {
+        final var now = Instant.now();
+        final var items = IntStream.range(0, perPage)
+                .mapToObj(i -> new CategoryListItem(CategoryID.unique(), "Category " + i, "Description " + i, true, now, null))
+                .toList();
+
+        return new Pagination<>(0, perPage, perPage * 10L, items);
+    }
+}
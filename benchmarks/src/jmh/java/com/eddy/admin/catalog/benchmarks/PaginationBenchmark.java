@@ -0,0 +1,46 @@
+package com.eddy.admin.catalog.benchmarks;
+
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.eddy.admin.catalog.infrastructure.category.models.ListCategoryResponse;
+import com.eddy.admin.catalog.infrastructure.category.presenter.CategoryApiPresenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaginationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int perPage;
+
+    private Pagination<CategoryListItem> page;
+
+    @Setup
+    public void setUp() {
+        page = Pages.listItems(perPage);
+    }
+
+    // same chain as GET /categories: gateway item -> use case output -> API response, consumed once
+    @Benchmark
+    public void mapToResponse(final Blackhole blackhole) {
+        final Pagination<ListCategoryResponse> response = page
+                .map(CategoryListOutput::from)
+                .map(CategoryApiPresenter::presenter);
+
+        for (final var item : response.items()) {
+            blackhole.consume(item);
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     private Category(
             CategoryID anId,
@@ -24,7 +25,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             boolean isActive,
             Instant aCreationDate,
             Instant anUpdateDate,
-            Instant aDeleteDate) {
+            Instant aDeleteDate,
+            long aVersion) {
         super(anId);
         this.name = aName;
         this.description = aDescription;
@@ -32,13 +34,14 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = requireNonNull(aCreationDate, "'createdAt' cannot be null");
         this.updatedAt = requireNonNull(anUpdateDate, "'updatedAt' cannot be null");
         this.deletedAt = aDeleteDate;
+        this.version = aVersion;
     }
 
     public static Category newCategory(final String aName, final String aDescription, final boolean isActive) {
         final var id = CategoryID.unique();
         final var now = Instant.now();
         final var aDeletedDate = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, now, now, aDeletedDate);
+        return new Category(id, aName, aDescription, isActive, now, now, aDeletedDate, 0);
     }
 
     public String getName() {
@@ -65,6 +68,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
 
     public static Category with(
             final CategoryID anId,
@@ -74,6 +81,19 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt
+    ) {
+        return with(anId, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryID anId,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
     ) {
         return new Category(
                 anId,
@@ -82,7 +102,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
@@ -94,7 +115,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 aCategory.isActive(),
                 aCategory.createdAt,
                 aCategory.updatedAt,
-                aCategory.deletedAt
+                aCategory.deletedAt,
+                aCategory.version
         );
     }
 
@@ -2,17 +2,32 @@ package com.eddy.admin.catalog.domain.category;
 
 import com.eddy.admin.catalog.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID id);
 
+    void deleteByIds(List<CategoryID> ids);
+
     Optional<Category> getById(CategoryID id);
 
+    // the current row, never a cached or replicated copy: the starting point of a read-modify-write
+    Optional<Category> getLatestById(CategoryID id);
+
     Category update(Category category);
 
+    long updateIfVersionMatches(Category category);
+
     Pagination<Category> findAll(CategorySearchQuery query);
+
+    Pagination<CategoryListItem> findListItems(CategorySearchQuery query);
+
+    void forEachListItem(Consumer<CategoryListItem> action);
 }
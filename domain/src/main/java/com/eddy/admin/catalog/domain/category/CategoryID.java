@@ -1,6 +1,7 @@
 package com.eddy.admin.catalog.domain.category;
 
 import com.eddy.admin.catalog.domain.Identifier;
+import com.eddy.admin.catalog.domain.utils.IdUtils;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -15,7 +16,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(IdUtils.timeOrderedUUID());
     }
 
     public static CategoryID from(final String anId) {
@@ -0,0 +1,24 @@
+package com.eddy.admin.catalog.domain.category;
+
+import java.time.Instant;
+
+public record CategoryListItem(
+        CategoryID id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    public static CategoryListItem from(final Category category) {
+        return new CategoryListItem(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getDeletedAt()
+        );
+    }
+}
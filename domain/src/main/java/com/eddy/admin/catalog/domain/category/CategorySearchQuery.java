@@ -1,10 +1,45 @@
 package com.eddy.admin.catalog.domain.category;
 
+import com.eddy.admin.catalog.domain.pagination.CountMode;
+
+import java.util.Objects;
+
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        CountMode count
 ) {
+
+    public CategorySearchQuery {
+        count = Objects.requireNonNullElse(count, CountMode.EXACT);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, CountMode.EXACT);
+    }
+
+    public boolean hasCursor() {
+        return after != null && !after.isBlank();
+    }
 }
@@ -0,0 +1,24 @@
+package com.eddy.admin.catalog.domain.exceptions;
+
+import com.eddy.admin.catalog.domain.AggregateRoot;
+import com.eddy.admin.catalog.domain.Identifier;
+import com.eddy.admin.catalog.domain.validation.Error;
+
+import java.util.List;
+
+public class ConflictException extends DomainException {
+
+    private ConflictException(final String message, final List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregateRootClass,
+            final Identifier id,
+            final long expectedVersion
+    ) {
+        final var errorMessage = "%s ID %s is no longer at version %d."
+                .formatted(anAggregateRootClass.getSimpleName(), id.getValue(), expectedVersion);
+        return new ConflictException(errorMessage, List.of());
+    }
+}
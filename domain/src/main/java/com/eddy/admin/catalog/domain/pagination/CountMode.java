@@ -0,0 +1,19 @@
+package com.eddy.admin.catalog.domain.pagination;
+
+import com.eddy.admin.catalog.domain.exceptions.DomainException;
+import com.eddy.admin.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static CountMode of(final String aValue) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(aValue))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("Invalid count mode '%s'".formatted(aValue))));
+    }
+}
@@ -0,0 +1,34 @@
+package com.eddy.admin.catalog.domain.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class IdUtils {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // unix millis in the high bits, a per-millisecond counter in the low 12 bits (rand_a)
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    private IdUtils() {
+    }
+
+    // UUIDv7: ids created later always compare greater, so inserts append to the end of the primary key index.
+    // A counter overflow or a clock going backwards borrows the next millisecond instead of breaking the order
+    public static UUID timeOrderedUUID() {
+        final var now = System.currentTimeMillis() << COUNTER_BITS;
+        final var state = LAST_STATE.updateAndGet(last -> Math.max(last + 1, now));
+
+        final var mostSigBits = (state >>> COUNTER_BITS) << 16 | VERSION_7 | (state & COUNTER_MASK);
+        final var leastSigBits = RANDOM.nextLong() & VARIANT_MASK | VARIANT_RFC_4122;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,29 @@
+package com.eddy.admin.catalog.domain.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationTest {
+
+    @Test
+    void shouldConvertEveryItemOnceWhenMapped() {
+        final var conversions = new AtomicInteger();
+        final var aPage = new Pagination<>(0, 10, 3, List.of("a", "b", "c"));
+
+        final var actualPage = aPage.map(item -> {
+            conversions.incrementAndGet();
+            return item.toUpperCase();
+        });
+
+        assertEquals(List.of("A", "B", "C"), actualPage.items());
+        assertEquals(List.of("A", "B", "C"), actualPage.items());
+        assertSame(actualPage.items().get(0), actualPage.items().get(0));
+        assertEquals(3, conversions.get());
+        assertEquals(aPage.total(), actualPage.total());
+        assertEquals(aPage.hasNext(), actualPage.hasNext());
+    }
+}
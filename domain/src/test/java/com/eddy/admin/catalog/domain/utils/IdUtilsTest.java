@@ -0,0 +1,34 @@
+package com.eddy.admin.catalog.domain.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdUtilsTest {
+
+    @Test
+    void shouldGenerateVersion7UuidsWithTheCurrentTimestamp() {
+        final var before = System.currentTimeMillis();
+
+        final var actualId = IdUtils.timeOrderedUUID();
+
+        assertEquals(7, actualId.version());
+        assertEquals(2, actualId.variant());
+        assertTrue((actualId.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    void shouldGenerateIncreasingIdsWithinTheSameMillisecond() {
+        final var ids = IntStream.range(0, 10_000)
+                .mapToObj(i -> IdUtils.timeOrderedUUID().toString())
+                .toList();
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, ids.get(i - 1) + " >= " + ids.get(i));
+        }
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+}
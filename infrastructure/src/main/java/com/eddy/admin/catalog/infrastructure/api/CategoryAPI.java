@@ -1,17 +1,25 @@
 package com.eddy.admin.catalog.infrastructure.api;
 
 import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.eddy.admin.catalog.infrastructure.category.models.BatchCreateCategoryResponse;
 import com.eddy.admin.catalog.infrastructure.category.models.CategoryResponse;
 import com.eddy.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
+import com.eddy.admin.catalog.infrastructure.category.models.ImportCategoryResponse;
 import com.eddy.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -28,38 +36,96 @@ public interface CategoryAPI {
     )
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "/batch",
+            produces = MediaType.APPLICATION_JSON_VALUE,
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create categories in batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All categories created successfully"),
+            @ApiResponse(responseCode = "207", description = "Some categories were not created, see each item errors"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")}
+    )
+    ResponseEntity<List<BatchCreateCategoryResponse>> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PostMapping(
+            value = "/import",
+            produces = MediaType.APPLICATION_JSON_VALUE,
+            consumes = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Import categories from newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every line was imported"),
+            @ApiResponse(responseCode = "207", description = "Some lines were not imported, see the errors of each line"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")}
+    )
+    ResponseEntity<ImportCategoryResponse> importCategories(InputStream body);
+
     @GetMapping
-    @Operation(summary = "Retrieve all categories based on filters")
+    @Operation(
+            summary = "Retrieve all categories based on filters",
+            description = """
+                    With the fulltext strategy, search matches whole-word prefixes of the name and description, not \
+                    substrings: every word is required, and offset pages are ordered by relevance before the sort. \
+                    Boolean operators are ignored, as are words shorter than three letters and InnoDB stopwords; \
+                    a search made only of those falls back to a substring match.
+                    With count=exact, a cursor walk (after) counts once: later pages report the exact total taken \
+                    when the walk started, carried in the cursor, even if rows were added or removed since.
+                    With count=none the total is not counted and is null.
+                    """
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "A Category listed successfully"),
             @ApiResponse(responseCode = "422", description = "Invalid parameter provided in the request"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")}
     )
-    Pagination<?> listCategories(
+    CompletableFuture<Pagination<?>> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count
     );
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream every category as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories streamed successfully"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")}
+    )
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
     @GetMapping("/{id}")
     @Operation(summary = "Retrieve a category by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "A Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "The category still matches the If-None-Match ETag"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")}
     )
-    CategoryResponse getCategoryById(@PathVariable final String id);
+    CompletableFuture<ResponseEntity<CategoryResponse>> getCategoryById(
+            @PathVariable final String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch
+    );
 
     @PutMapping("/{id}")
     @Operation(summary = "Update category by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "A Category updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "409", description = "The category changed since the given version was read"),
+            @ApiResponse(responseCode = "412", description = "The category no longer matches the If-Match ETag, or no longer exists"),
             @ApiResponse(responseCode = "422", description = "Invalid data provided in the request"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")}
     )
-    ResponseEntity<?> updateCategory(@RequestBody UpdateCategoryRequest input, @PathVariable final String id);
+    ResponseEntity<?> updateCategory(
+            @RequestBody UpdateCategoryRequest input,
+            @PathVariable final String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) final String ifMatch
+    );
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -70,5 +136,14 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "500", description = "Unexpected server error")}
     )
     void deleteCategory(@PathVariable final String id);
+
+    @DeleteMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete categories in batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories deleted successfully, unknown IDs are ignored"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")}
+    )
+    void deleteCategories(@RequestBody List<String> ids);
 }
 
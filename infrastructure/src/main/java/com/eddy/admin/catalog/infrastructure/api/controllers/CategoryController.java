@@ -1,51 +1,96 @@
 package com.eddy.admin.catalog.infrastructure.api.controllers;
 
+import com.eddy.admin.catalog.application.AsyncUseCase;
 import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
 import com.eddy.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.eddy.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.create.batch.BatchCreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.create.imports.ImportCategoryLine;
+import com.eddy.admin.catalog.application.category.create.imports.ImportCategoryUseCase;
 import com.eddy.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.eddy.admin.catalog.application.category.delete.batch.BatchDeleteCategoryUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.export.ExportCategoryUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.eddy.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
 import com.eddy.admin.catalog.application.category.retrieve.list.ListCategoryUseCase;
 import com.eddy.admin.catalog.application.category.update.UpdateCategoryCommand;
 import com.eddy.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.eddy.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.exceptions.ConflictException;
+import com.eddy.admin.catalog.domain.exceptions.NotFoundException;
+import com.eddy.admin.catalog.domain.pagination.CountMode;
 import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.eddy.admin.catalog.domain.validation.Error;
 import com.eddy.admin.catalog.domain.validation.handler.Notification;
 import com.eddy.admin.catalog.infrastructure.api.CategoryAPI;
+import com.eddy.admin.catalog.infrastructure.category.models.BatchCreateCategoryResponse;
 import com.eddy.admin.catalog.infrastructure.category.models.CategoryResponse;
 import com.eddy.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
-import com.eddy.admin.catalog.infrastructure.category.models.ListCategoryResponse;
+import com.eddy.admin.catalog.infrastructure.category.models.ImportCategoryResponse;
 import com.eddy.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import com.eddy.admin.catalog.infrastructure.category.presenter.CategoryApiPresenter;
+import com.eddy.admin.catalog.infrastructure.configuration.json.Json;
+import com.eddy.admin.catalog.infrastructure.utils.ETagUtils;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Either;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
-    private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final AsyncUseCase<String, CategoryOutput> getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
-    private final ListCategoryUseCase listCategoryUseCase;
+    private final AsyncUseCase<CategorySearchQuery, Pagination<CategoryListOutput>> listCategoryUseCase;
+    private final BatchCreateCategoryUseCase batchCreateCategoryUseCase;
+    private final BatchDeleteCategoryUseCase batchDeleteCategoryUseCase;
+    private final ExportCategoryUseCase exportCategoryUseCase;
+    private final ImportCategoryUseCase importCategoryUseCase;
+    private final int maxImportLineSize;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoryUseCase listCategoryUseCase) {
+            final ListCategoryUseCase listCategoryUseCase,
+            final BatchCreateCategoryUseCase batchCreateCategoryUseCase,
+            final BatchDeleteCategoryUseCase batchDeleteCategoryUseCase,
+            final ExportCategoryUseCase exportCategoryUseCase,
+            final ImportCategoryUseCase importCategoryUseCase,
+            @Value("${category.import.max-line-size:64KB}") final DataSize maxImportLineSize,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) final Executor useCaseExecutor) {
 
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
-        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryByIdUseCase = AsyncUseCase.of(getCategoryByIdUseCase, useCaseExecutor);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
-        this.listCategoryUseCase = Objects.requireNonNull(listCategoryUseCase);
+        this.listCategoryUseCase = AsyncUseCase.of(listCategoryUseCase, useCaseExecutor);
+        this.batchCreateCategoryUseCase = Objects.requireNonNull(batchCreateCategoryUseCase);
+        this.batchDeleteCategoryUseCase = Objects.requireNonNull(batchDeleteCategoryUseCase);
+        this.exportCategoryUseCase = Objects.requireNonNull(exportCategoryUseCase);
+        this.importCategoryUseCase = Objects.requireNonNull(importCategoryUseCase);
+        this.maxImportLineSize = Math.toIntExact(maxImportLineSize.toBytes());
     }
 
     @Override
@@ -63,38 +108,124 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<ListCategoryResponse> listCategories(
+    public ResponseEntity<List<BatchCreateCategoryResponse>> createCategories(final List<CreateCategoryRequest> input) {
+        final var commands = input.stream()
+                .map(it -> CreateCategoryCommand.with(it.name(), it.description(), it.active()))
+                .toList();
+
+        final var results = batchCreateCategoryUseCase.execute(commands);
+
+        final var body = IntStream.range(0, results.size())
+                .mapToObj(index -> CategoryApiPresenter.presenter(index, results.get(index)))
+                .toList();
+
+        final var status = results.stream().allMatch(Either::isRight) ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+
+        return ResponseEntity.status(status).body(body);
+    }
+
+    @Override
+    public ResponseEntity<ImportCategoryResponse> importCategories(final InputStream body) {
+        final var lines = Iterator.ofAll(Json.ndjsonReader(body, CreateCategoryRequest.class, maxImportLineSize))
+                .map(line -> line.value().fold(
+                        message -> ImportCategoryLine.invalid(line.number(), Notification.create(new Error(message))),
+                        it -> ImportCategoryLine.valid(line.number(), CreateCategoryCommand.with(it.name(), it.description(), it.active()))
+                ));
+
+        final var output = importCategoryUseCase.execute(lines);
+
+        final var status = output.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(CategoryApiPresenter.presenter(output));
+    }
+
+    @Override
+    public CompletableFuture<Pagination<?>> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction) {
-        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, direction);
+            final String direction,
+            final String after,
+            final String count) {
+        final var aQuery =
+                new CategorySearchQuery(page, perPage, search, sort, direction, after, CountMode.of(count));
 
         return listCategoryUseCase.execute(aQuery)
-                    .map(CategoryApiPresenter::presenter);
+                .<Pagination<?>>thenApply(it -> it.map(CategoryApiPresenter::presenter))
+                .toCompletableFuture();
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        final StreamingResponseBody body = out -> {
+            try (final var writer = Json.ndjsonWriter(out)) {
+                exportCategoryUseCase.execute(output -> writer.write(CategoryApiPresenter.presenter(output)));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
+    // the use case reads through the category cache, so a matching If-None-Match is usually answered without MySQL
     @Override
-    public CategoryResponse getCategoryById(final String id) {
-        return CategoryApiPresenter.presenter(getCategoryByIdUseCase.execute(id));
+    public CompletableFuture<ResponseEntity<CategoryResponse>> getCategoryById(final String id, final String ifNoneMatch) {
+        return getCategoryByIdUseCase.execute(id)
+                .thenApply(output -> {
+                    final var eTag = ETagUtils.of(output.version());
+
+                    if (!ETagUtils.noneMatch(ifNoneMatch, output.version())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<CategoryResponse>build();
+                    }
+
+                    return ResponseEntity.ok().eTag(eTag).body(CategoryApiPresenter.presenter(output));
+                })
+                .toCompletableFuture();
     }
 
     @Override
-    public ResponseEntity<?> updateCategory(final UpdateCategoryRequest input, final String id) {
-        final var aCommand = UpdateCategoryCommand.with(id, input.name(), input.description(), input.active());
+    public ResponseEntity<?> updateCategory(final UpdateCategoryRequest input, final String id, final String ifMatch) {
+        final var hasPrecondition = Objects.nonNull(ifMatch) && !ETagUtils.isAny(ifMatch);
+        final var expectedVersion = hasPrecondition ? ETagUtils.versionOf(ifMatch).orElse(null) : input.version();
+
+        if (hasPrecondition && Objects.isNull(expectedVersion)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+
+        final var aCommand = UpdateCategoryCommand.with(id, input.name(), input.description(), input.active(), expectedVersion);
 
         Function<Notification, ResponseEntity<?>> onError = notification ->
                 ResponseEntity.unprocessableEntity().body(notification);
 
-        Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
-
-        return updateCategoryUseCase.execute(aCommand)
-                .fold(onError, onSuccess);
+        Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output -> Objects.isNull(output.version())
+                ? ResponseEntity.ok(output)
+                : ResponseEntity.ok().eTag(ETagUtils.of(output.version())).body(output);
+
+        try {
+            return updateCategoryUseCase.execute(aCommand)
+                    .fold(onError, onSuccess);
+        } catch (ConflictException e) {
+            if (hasPrecondition) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            throw e;
+        } catch (NotFoundException e) {
+            // RFC 9110 13.1.1: any If-Match, even "*", is false when there is no current representation
+            if (Objects.nonNull(ifMatch)) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            throw e;
+        }
     }
 
     @Override
     public void deleteCategory(final String id) {
         deleteCategoryUseCase.execute(id);
     }
+
+    @Override
+    public void deleteCategories(final List<String> ids) {
+        batchDeleteCategoryUseCase.execute(ids);
+    }
 }
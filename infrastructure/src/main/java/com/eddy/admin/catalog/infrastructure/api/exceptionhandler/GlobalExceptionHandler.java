@@ -1,14 +1,18 @@
 package com.eddy.admin.catalog.infrastructure.api.exceptionhandler;
 
+import com.eddy.admin.catalog.domain.exceptions.ConflictException;
 import com.eddy.admin.catalog.domain.exceptions.DomainException;
 import com.eddy.admin.catalog.domain.exceptions.NotFoundException;
 import com.eddy.admin.catalog.domain.validation.Error;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DatabaseBusyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -23,6 +27,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = {DatabaseBusyException.class, RejectedExecutionException.class})
+    public ResponseEntity<?> handleBusyException(final RuntimeException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiError(ex.getMessage(), List.of()));
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
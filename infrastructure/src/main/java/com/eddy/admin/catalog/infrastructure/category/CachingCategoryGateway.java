@@ -0,0 +1,168 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Caches categories by id and list pages by query. List pages are keyed by a catalog version that every
+ * write through this instance bumps, so a write makes all cached pages unreachable without scanning them;
+ * they then age out by weight or TTL. Writes made by other instances are only seen once the TTLs expire.
+ * Both caches report their hits, misses and evictions as {@code cache.*} meters.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+
+    // rough heap footprint of a list item without its strings
+    private static final int LIST_ITEM_WEIGHT = 160;
+
+    private final CategoryGateway delegate;
+    private final Cache<CategoryID, Category> cache;
+    private final Cache<ListKey, Pagination<CategoryListItem>> listCache;
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    public CachingCategoryGateway(
+            final CategoryGateway delegate,
+            final long maximumSize,
+            final Duration ttl,
+            final long listMaximumWeight,
+            final Duration listTtl,
+            final MeterRegistry meterRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.listCache = Caffeine.newBuilder()
+                .maximumWeight(listMaximumWeight)
+                .weigher(CachingCategoryGateway::weigh)
+                .expireAfterWrite(listTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "category.by_id");
+        CaffeineCacheMetrics.monitor(meterRegistry, listCache, "category.list");
+    }
+
+    /**
+     * Drops every cached category and list page, for writes that bypass this gateway.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        listCache.invalidateAll();
+        catalogVersion.incrementAndGet();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return delegate.create(category);
+        } finally {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return delegate.createAll(categories);
+        } finally {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            cache.invalidate(id);
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void deleteByIds(final List<CategoryID> ids) {
+        try {
+            delegate.deleteByIds(ids);
+        } finally {
+            cache.invalidateAll(ids);
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    // aggregates are mutable, so only copies go in and out of the cache
+    @Override
+    public Optional<Category> getById(final CategoryID id) {
+        return Optional.ofNullable(cache.get(id, key -> delegate.getById(key).orElse(null)))
+                .map(Category::clone);
+    }
+
+    @Override
+    public Optional<Category> getLatestById(final CategoryID id) {
+        return delegate.getLatestById(id);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return delegate.update(category);
+        } finally {
+            cache.invalidate(category.getId());
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long updateIfVersionMatches(final Category category) {
+        try {
+            return delegate.updateIfVersionMatches(category);
+        } finally {
+            cache.invalidate(category.getId());
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public Pagination<CategoryListItem> findListItems(final CategorySearchQuery query) {
+        return listCache.get(new ListKey(catalogVersion.get(), query), key -> delegate.findListItems(query));
+    }
+
+    @Override
+    public void forEachListItem(final Consumer<CategoryListItem> action) {
+        delegate.forEachListItem(action);
+    }
+
+    private static int weigh(final ListKey key, final Pagination<CategoryListItem> page) {
+        return page.items().stream()
+                .mapToInt(it -> LIST_ITEM_WEIGHT + 2 * (length(it.name()) + length(it.description())))
+                .sum() + LIST_ITEM_WEIGHT;
+    }
+
+    private static int length(final String value) {
+        return Objects.isNull(value) ? 0 : value.length();
+    }
+
+    // the version is read before the delegate call: a page loaded while a write commits lands under the old key
+    private record ListKey(long catalogVersion, CategorySearchQuery query) {
+    }
+}
@@ -3,27 +3,64 @@ package com.eddy.admin.catalog.infrastructure.category;
 import com.eddy.admin.catalog.domain.category.Category;
 import com.eddy.admin.catalog.domain.category.CategoryGateway;
 import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
 import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.exceptions.ConflictException;
+import com.eddy.admin.catalog.domain.exceptions.NotFoundException;
+import com.eddy.admin.catalog.domain.pagination.CountMode;
 import com.eddy.admin.catalog.domain.pagination.Pagination;
 import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategorySort;
+import com.eddy.admin.catalog.infrastructure.category.search.CategorySearchStrategy;
+import com.eddy.admin.catalog.infrastructure.utils.Cursor;
 import com.eddy.admin.catalog.infrastructure.utils.SpecificationUtils;
+import jakarta.persistence.Tuple;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static java.util.Optional.ofNullable;
 
 @Repository
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String ID = "id";
+    private static final List<String> LIST_ITEM_PROPERTIES =
+            List.of(ID, "name", "description", "active", "createdAt", "deletedAt");
+
     final CategoryRepository repository;
+    final CategoryTotalCounter totalCounter;
+    final CategorySearchStrategy search;
+    final int batchSize;
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository categoryRepository,
+            final CategoryTotalCounter totalCounter,
+            final CategorySearchStrategy search,
+            @Value("${category.batch.size:500}") final int batchSize
+    ) {
         this.repository = categoryRepository;
+        this.totalCounter = totalCounter;
+        this.search = search;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -31,12 +68,34 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return save(category);
     }
 
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var entities = categories.stream().map(CategoryJpaEntity::from).toList();
+        repository.insertAll(entities);
+        entities.forEach(search::index);
+        return categories;
+    }
+
     @Override
     public void deleteById(CategoryID id) {
         final var anIdValue = id.getValue();
-        if (this.repository.existsById(anIdValue)) {
-            this.repository.deleteById(id.getValue());
+        this.repository.bulkDeleteById(anIdValue);
+        this.search.remove(anIdValue);
+    }
+
+    // one DELETE per batch keeps each IN list under the placeholder and max_allowed_packet limits
+    @Override
+    @Transactional
+    public void deleteByIds(final List<CategoryID> ids) {
+        if (ids.isEmpty()) {
+            return;
         }
+
+        final var idValues = ids.stream().map(CategoryID::getValue).distinct().toList();
+        for (var from = 0; from < idValues.size(); from += batchSize) {
+            this.repository.bulkDeleteByIds(idValues.subList(from, Math.min(from + batchSize, idValues.size())));
+        }
+        idValues.forEach(this.search::remove);
     }
 
     @Override
@@ -46,41 +105,178 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Category> getLatestById(final CategoryID id) {
+        return getById(id);
+    }
+
     @Override
     public Category update(Category category) {
-        return save(category);
+        try {
+            return save(category);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw ConflictException.with(Category.class, category.getId(), category.getVersion());
+        }
+    }
+
+    @Override
+    public long updateIfVersionMatches(final Category category) {
+        final var anId = category.getId();
+        final var updated = repository.updateIfVersionMatches(
+                anId.getValue(),
+                category.getVersion(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getUpdatedAt()
+        );
+
+        if (updated == 0) {
+            throw repository.existsById(anId.getValue())
+                    ? ConflictException.with(Category.class, anId, category.getVersion())
+                    : NotFoundException.with(Category.class, anId);
+        }
+
+        search.index(CategoryJpaEntity.from(category));
+        return category.getVersion() + 1;
     }
 
     @Override
     public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return find(query, repository::findSlice, CategoryMySQLGateway::propertyOf, CategoryJpaEntity::getId)
+                .map(CategoryJpaEntity::toAggregate);
+    }
 
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
+    @Override
+    public Pagination<CategoryListItem> findListItems(final CategorySearchQuery query) {
+        final var properties = new LinkedHashSet<>(LIST_ITEM_PROPERTIES);
+        properties.add(CategorySort.of(query.sort()).property());
 
-        final var specification = ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> {
-                    final Specification<CategoryJpaEntity> nameLike = SpecificationUtils.like("name", str);
-                    final Specification<CategoryJpaEntity> descriptionLike = SpecificationUtils.like("description", str);
+        return find(
+                query,
+                (specification, page) -> repository.findSlice(specification, page, properties),
+                Tuple::get,
+                row -> row.get(ID, String.class)
+        ).map(CategoryMySQLGateway::toListItem);
+    }
 
-                    return nameLike.or(descriptionLike);
-                }).orElse(null);
+    @Override
+    public void forEachListItem(final Consumer<CategoryListItem> action) {
+        repository.forEachListItem(action);
+    }
+
+    private <T> Pagination<T> find(
+            final CategorySearchQuery query,
+            final BiFunction<Specification<CategoryJpaEntity>, Pageable, Slice<T>> fetch,
+            final BiFunction<T, String, Object> valueOf,
+            final Function<T, String> idOf
+    ) {
+        final var sortBy = CategorySort.of(query.sort()).property();
+        final var direction = Sort.Direction.fromString(query.direction());
+        final var sort = Sort.by(direction, sortBy).and(Sort.by(direction, ID));
+
+        final var terms = ofNullable(query.terms()).filter(str -> !str.isBlank());
+        final var specification = terms.map(search::matching).orElse(null);
 
+        if (query.hasCursor()) {
+            final var cursor = Cursor.decode(query.after(), sortBy);
+            final var afterCursor = Specification.where(specification)
+                    .and(SpecificationUtils.after(sortBy, direction, cursor));
+
+            final var rows = fetch.apply(afterCursor, PageRequest.of(0, query.perPage(), sort));
+            final var sliceResult = new SliceImpl<>(
+                    rows.getContent(), PageRequest.of(query.page(), query.perPage()), rows.hasNext());
+
+            return paginate(query, sortBy, cursorTotal(query, cursor, specification), sliceResult, valueOf, idOf);
+        }
 
-        final var pageResult = repository.findAll(specification, page);
+        final var ranking = terms.map(str -> search.ranking(str, sort)).orElse(null);
+        final var page = Objects.isNull(ranking)
+                ? PageRequest.of(query.page(), query.perPage(), sort)
+                : PageRequest.of(query.page(), query.perPage());
+
+        final var sliceResult = fetch.apply(Specification.where(specification).and(ranking), page);
+
+        return paginate(query, sortBy, total(query, specification, sliceResult), sliceResult, valueOf, idOf);
+    }
+
+    // same shortcut as Spring Data's Page: a partial last page already tells the total
+    private long total(
+            final CategorySearchQuery query,
+            final Specification<CategoryJpaEntity> specification,
+            final Slice<?> sliceResult
+    ) {
+        final var offset = sliceResult.getPageable().getOffset();
+        if (CountMode.EXACT == query.count() && !sliceResult.hasNext() && (sliceResult.hasContent() || offset == 0)) {
+            return offset + sliceResult.getNumberOfElements();
+        }
+        return total(query, specification);
+    }
+
+    // a deep cursor walk must not pay a full COUNT per page: an exact walk counts once and carries it in the cursor
+    private long cursorTotal(
+            final CategorySearchQuery query,
+            final Cursor cursor,
+            final Specification<CategoryJpaEntity> specification
+    ) {
+        return CountMode.EXACT == query.count() && Objects.nonNull(cursor.total())
+                ? cursor.total()
+                : total(query, specification);
+    }
+
+    private long total(final CategorySearchQuery query, final Specification<CategoryJpaEntity> specification) {
+        return switch (query.count()) {
+            case EXACT -> repository.count(specification);
+            case ESTIMATED -> totalCounter.estimate(query.terms(), specification);
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    private static <T> Pagination<T> paginate(
+            final CategorySearchQuery query,
+            final String sortBy,
+            final long total,
+            final Slice<T> result,
+            final BiFunction<T, String, Object> valueOf,
+            final Function<T, String> idOf
+    ) {
+        final var last = result.hasNext() ? result.getContent().getLast() : null;
+        final var nextCursor = Objects.isNull(last)
+                ? null
+                : Cursor.with(sortBy, valueOf.apply(last, sortBy), idOf.apply(last), carriedTotal(query, total)).encode();
 
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+                result.getNumber(),
+                result.getSize(),
+                total,
+                result.hasNext(),
+                result.getContent(),
+                nextCursor
+        );
+    }
+
+    private static Long carriedTotal(final CategorySearchQuery query, final long total) {
+        return CountMode.EXACT == query.count() ? total : null;
+    }
+
+    private static Object propertyOf(final CategoryJpaEntity entity, final String property) {
+        return new BeanWrapperImpl(entity).getPropertyValue(property);
+    }
+
+    private static CategoryListItem toListItem(final Tuple row) {
+        return new CategoryListItem(
+                CategoryID.from(row.get(ID, String.class)),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("active", Boolean.class),
+                row.get("createdAt", Instant.class),
+                row.get("deletedAt", Instant.class)
         );
     }
 
     private Category save(Category category) {
-        return repository.save(CategoryJpaEntity.from(category)).toAggregate();
+        final var saved = repository.save(CategoryJpaEntity.from(category));
+        search.index(saved);
+        return saved.toAggregate();
     }
 }
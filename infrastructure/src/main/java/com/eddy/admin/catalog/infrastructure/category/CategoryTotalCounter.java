@@ -0,0 +1,105 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DataSourceRoute;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DatabaseConcurrencyLimiter;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Serves {@code count=estimated} totals from a bounded cache. An expired total is still returned while it is
+ * recounted in the background, on the data source route of the request that noticed it. Recounts run on a small
+ * pool of their own and hold a database permit like any other query; when none is free in time the stale total
+ * stays. The pool is not a bean, which would replace the auto-configured application task executor.
+ */
+@Component
+public class CategoryTotalCounter implements DisposableBean {
+
+    private final LoadingCache<Key, Long> totals;
+    private final ThreadPoolTaskExecutor refreshExecutor = new ThreadPoolTaskExecutor();
+
+    public CategoryTotalCounter(
+            final CategoryRepository repository,
+            final DatabaseConcurrencyLimiter limiter,
+            final ObjectProvider<TaskDecorator> taskDecorator,
+            @Value("${category.count.ttl:30s}") final Duration ttl,
+            @Value("${category.count.max-entries:1000}") final int maxEntries,
+            @Value("${category.count.refresh-concurrency:2}") final int refreshConcurrency
+    ) {
+        Objects.requireNonNull(repository);
+        Objects.requireNonNull(limiter);
+
+        // a key has at most one recount in flight, so a queue of max-entries never rejects
+        refreshExecutor.setThreadNamePrefix("count-refresh-");
+        refreshExecutor.setCorePoolSize(refreshConcurrency);
+        refreshExecutor.setMaxPoolSize(refreshConcurrency);
+        refreshExecutor.setQueueCapacity(maxEntries);
+        taskDecorator.ifUnique(refreshExecutor::setTaskDecorator);
+        refreshExecutor.initialize();
+
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .refreshAfterWrite(ttl)
+                .executor(this::onCurrentRoute)
+                .build(new CacheLoader<>() {
+
+                    @Override
+                    public Long load(final Key key) {
+                        return repository.count(key.specification());
+                    }
+
+                    // a miss counts inside the caller's permit; only the background recount takes one of its own
+                    @Override
+                    public Long reload(final Key key, final Long oldValue) {
+                        return limiter.call(() -> load(key));
+                    }
+                });
+    }
+
+    public long estimate(final String terms, final Specification<CategoryJpaEntity> specification) {
+        return totals.get(new Key(Objects.toString(terms, "").trim().toUpperCase(), specification));
+    }
+
+    public void invalidateAll() {
+        totals.invalidateAll();
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdown();
+    }
+
+    private void onCurrentRoute(final Runnable task) {
+        final var route = DataSourceRoute.current();
+        refreshExecutor.execute(() -> route.call(() -> {
+            task.run();
+            return null;
+        }));
+    }
+
+    // the same terms always build the same specification, so only the terms identify a total
+    private record Key(String terms, Specification<CategoryJpaEntity> specification) {
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Key other && terms.equals(other.terms);
+        }
+
+        @Override
+        public int hashCode() {
+            return terms.hashCode();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DatabaseConcurrencyLimiter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Runs every query under {@code limiter}. The export stream holds its connection for minutes, so it takes a permit
+ * from {@code exportLimiter} instead and never counts against the per-query pool.
+ */
+public class ConcurrencyLimitingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final DatabaseConcurrencyLimiter limiter;
+    private final DatabaseConcurrencyLimiter exportLimiter;
+
+    public ConcurrencyLimitingCategoryGateway(
+            final CategoryGateway delegate,
+            final DatabaseConcurrencyLimiter limiter,
+            final DatabaseConcurrencyLimiter exportLimiter
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.limiter = Objects.requireNonNull(limiter);
+        this.exportLimiter = Objects.requireNonNull(exportLimiter);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return limiter.call(() -> delegate.create(category));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return limiter.call(() -> delegate.createAll(categories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        limiter.call(() -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteByIds(final List<CategoryID> ids) {
+        limiter.call(() -> {
+            delegate.deleteByIds(ids);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> getById(final CategoryID id) {
+        return limiter.call(() -> delegate.getById(id));
+    }
+
+    @Override
+    public Optional<Category> getLatestById(final CategoryID id) {
+        return limiter.call(() -> delegate.getLatestById(id));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return limiter.call(() -> delegate.update(category));
+    }
+
+    @Override
+    public long updateIfVersionMatches(final Category category) {
+        return limiter.call(() -> delegate.updateIfVersionMatches(category));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return limiter.call(() -> delegate.findAll(query));
+    }
+
+    @Override
+    public Pagination<CategoryListItem> findListItems(final CategorySearchQuery query) {
+        return limiter.call(() -> delegate.findListItems(query));
+    }
+
+    @Override
+    public void forEachListItem(final Consumer<CategoryListItem> action) {
+        exportLimiter.call(() -> {
+            delegate.forEachListItem(action);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.eddy.admin.catalog.infrastructure.configuration.jfr.GatewayEvent;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class FlightRecorderCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+
+    public FlightRecorderCategoryGateway(final CategoryGateway delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return record("create", category, () -> delegate.create(category));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return record("createAll", categories, () -> delegate.createAll(categories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        record("deleteById", id, () -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteByIds(final List<CategoryID> ids) {
+        record("deleteByIds", ids, () -> {
+            delegate.deleteByIds(ids);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> getById(final CategoryID id) {
+        return record("getById", id, () -> delegate.getById(id));
+    }
+
+    @Override
+    public Optional<Category> getLatestById(final CategoryID id) {
+        return record("getLatestById", id, () -> delegate.getLatestById(id));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return record("update", category, () -> delegate.update(category));
+    }
+
+    @Override
+    public long updateIfVersionMatches(final Category category) {
+        return record("updateIfVersionMatches", category, () -> delegate.updateIfVersionMatches(category));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return record("findAll", query, () -> delegate.findAll(query));
+    }
+
+    @Override
+    public Pagination<CategoryListItem> findListItems(final CategorySearchQuery query) {
+        return record("findListItems", query, () -> delegate.findListItems(query));
+    }
+
+    @Override
+    public void forEachListItem(final Consumer<CategoryListItem> action) {
+        final var rows = new AtomicLong();
+        record("forEachListItem", null, () -> {
+            delegate.forEachListItem(item -> {
+                rows.incrementAndGet();
+                action.accept(item);
+            });
+            return rows.get();
+        });
+    }
+
+    private <T> T record(final String method, final Object argument, final Supplier<T> action) {
+        final var event = GatewayEvent.start();
+        T result = null;
+        var failed = true;
+        try {
+            result = action.get();
+            failed = false;
+            return result;
+        } finally {
+            event.finish(method, argument, result, failed);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class MeteredCategoryGateway implements CategoryGateway {
+
+    public static final String METRIC_NAME = "category.gateway";
+
+    private final CategoryGateway delegate;
+    private final MeterRegistry registry;
+
+    public MeteredCategoryGateway(final CategoryGateway delegate, final MeterRegistry registry) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return record("create", () -> delegate.create(category));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return record("createAll", () -> delegate.createAll(categories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        record("deleteById", () -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteByIds(final List<CategoryID> ids) {
+        record("deleteByIds", () -> {
+            delegate.deleteByIds(ids);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> getById(final CategoryID id) {
+        return record("getById", () -> delegate.getById(id));
+    }
+
+    @Override
+    public Optional<Category> getLatestById(final CategoryID id) {
+        return record("getLatestById", () -> delegate.getLatestById(id));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return record("update", () -> delegate.update(category));
+    }
+
+    @Override
+    public long updateIfVersionMatches(final Category category) {
+        return record("updateIfVersionMatches", () -> delegate.updateIfVersionMatches(category));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return record("findAll", () -> delegate.findAll(query));
+    }
+
+    @Override
+    public Pagination<CategoryListItem> findListItems(final CategorySearchQuery query) {
+        return record("findListItems", () -> delegate.findListItems(query));
+    }
+
+    @Override
+    public void forEachListItem(final Consumer<CategoryListItem> action) {
+        record("forEachListItem", () -> {
+            delegate.forEachListItem(action);
+            return null;
+        });
+    }
+
+    private <T> T record(final String method, final Supplier<T> action) {
+        final var sample = Timer.start(registry);
+        var exception = "none";
+        try {
+            return action.get();
+        } catch (final RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Time spent in each CategoryGateway call, cache included")
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DataSourceRoute;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sends reads to the replica and writes to the primary. With a non-zero read-your-writes window,
+ * reads stay on the primary for that long after the last write made through this instance. Reads made to
+ * prepare a write always go to the primary.
+ */
+public class ReplicaRoutingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final long readYourWritesNanos;
+    private volatile long lastWriteNanos;
+
+    public ReplicaRoutingCategoryGateway(final CategoryGateway delegate, final Duration readYourWrites) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.readYourWritesNanos = readYourWrites.toNanos();
+        this.lastWriteNanos = System.nanoTime() - readYourWritesNanos;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return write(() -> delegate.create(category));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return write(() -> delegate.createAll(categories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        write(() -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteByIds(final List<CategoryID> ids) {
+        write(() -> {
+            delegate.deleteByIds(ids);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> getById(final CategoryID id) {
+        return read(() -> delegate.getById(id));
+    }
+
+    @Override
+    public Optional<Category> getLatestById(final CategoryID id) {
+        return DataSourceRoute.PRIMARY.call(() -> delegate.getLatestById(id));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return write(() -> delegate.update(category));
+    }
+
+    @Override
+    public long updateIfVersionMatches(final Category category) {
+        return write(() -> delegate.updateIfVersionMatches(category));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return read(() -> delegate.findAll(query));
+    }
+
+    @Override
+    public Pagination<CategoryListItem> findListItems(final CategorySearchQuery query) {
+        return read(() -> delegate.findListItems(query));
+    }
+
+    @Override
+    public void forEachListItem(final Consumer<CategoryListItem> action) {
+        read(() -> {
+            delegate.forEachListItem(action);
+            return null;
+        });
+    }
+
+    private <T> T read(final Supplier<T> action) {
+        final var route = System.nanoTime() - lastWriteNanos < readYourWritesNanos
+                ? DataSourceRoute.PRIMARY
+                : DataSourceRoute.REPLICA;
+
+        return route.call(action);
+    }
+
+    private <T> T write(final Supplier<T> action) {
+        try {
+            return DataSourceRoute.PRIMARY.call(action);
+        } finally {
+            lastWriteNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.eddy.admin.catalog.infrastructure.category.models;
+
+import com.eddy.admin.catalog.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchCreateCategoryResponse(
+        @JsonProperty("index") int index,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
@@ -11,6 +11,7 @@ public record CategoryResponse(
         @JsonProperty(value = "is_active", defaultValue = "true") boolean active,
         @JsonProperty("created_at") Instant createdAt,
         @JsonProperty("updated_at") Instant updatedAt,
-        @JsonProperty("deleted_at") Instant deletedAt
+        @JsonProperty("deleted_at") Instant deletedAt,
+        @JsonProperty("version") long version
 ) {
 }
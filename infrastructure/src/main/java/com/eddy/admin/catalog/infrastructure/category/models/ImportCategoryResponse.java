@@ -0,0 +1,20 @@
+package com.eddy.admin.catalog.infrastructure.category.models;
+
+import com.eddy.admin.catalog.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ImportCategoryResponse(
+        @JsonProperty("lines") long lines,
+        @JsonProperty("imported") long imported,
+        @JsonProperty("failed") long failed,
+        @JsonProperty("errors") List<LineErrors> errors
+) {
+
+    public record LineErrors(
+            @JsonProperty("line") long line,
+            @JsonProperty("errors") List<Error> errors
+    ) {
+    }
+}
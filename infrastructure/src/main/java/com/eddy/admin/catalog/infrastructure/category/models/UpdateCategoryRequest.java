@@ -5,6 +5,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public record UpdateCategoryRequest(
         @JsonProperty("name") String name,
         @JsonProperty("description") String description,
-        @JsonProperty(value = "is_active", defaultValue = "true") boolean active
+        @JsonProperty(value = "is_active", defaultValue = "true") boolean active,
+        @JsonProperty("version") Long version
 ) {
+
+    public UpdateCategoryRequest(final String name, final String description, final boolean active) {
+        this(name, description, active, null);
+    }
 }
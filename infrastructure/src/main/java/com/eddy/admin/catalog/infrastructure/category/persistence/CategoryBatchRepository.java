@@ -0,0 +1,8 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import java.util.List;
+
+public interface CategoryBatchRepository {
+
+    void insertAll(List<CategoryJpaEntity> categories);
+}
@@ -0,0 +1,56 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimeZone;
+
+public class CategoryBatchRepositoryImpl implements CategoryBatchRepository {
+
+    private static final String INSERT = """
+            INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CategoryBatchRepositoryImpl(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${category.batch.size:500}") final int batchSize
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.batchSize = batchSize;
+    }
+
+    // plain JDBC batches: merge() would issue a SELECT per row, and rewriteBatchedStatements=true
+    // lets the MySQL driver send each batch as a single multi-row INSERT
+    @Override
+    @Transactional
+    public void insertAll(final List<CategoryJpaEntity> categories) {
+        jdbcTemplate.batchUpdate(INSERT, categories, batchSize, CategoryBatchRepositoryImpl::bind);
+    }
+
+    private static void bind(final PreparedStatement ps, final CategoryJpaEntity category) throws SQLException {
+        ps.setBytes(1, CategoryIdJavaType.toBytes(category.getId()));
+        ps.setString(2, category.getName());
+        ps.setString(3, category.getDescription());
+        ps.setBoolean(4, category.isActive());
+        setInstant(ps, 5, category.getCreatedAt());
+        setInstant(ps, 6, category.getUpdatedAt());
+        setInstant(ps, 7, category.getDeletedAt());
+        ps.setLong(8, category.getVersion());
+    }
+
+    private static void setInstant(final PreparedStatement ps, final int index, final Instant instant) throws SQLException {
+        final var utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        ps.setTimestamp(index, Objects.isNull(instant) ? null : Timestamp.from(instant), utc);
+    }
+}
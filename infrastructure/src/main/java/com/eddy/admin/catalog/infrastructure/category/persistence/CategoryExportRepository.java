@@ -0,0 +1,10 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+
+import java.util.function.Consumer;
+
+public interface CategoryExportRepository {
+
+    void forEachListItem(Consumer<CategoryListItem> action);
+}
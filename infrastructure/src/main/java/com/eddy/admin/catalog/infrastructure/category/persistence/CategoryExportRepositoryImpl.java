@@ -0,0 +1,60 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+
+public class CategoryExportRepositoryImpl implements CategoryExportRepository {
+
+    private static final String SELECT = """
+            SELECT id, name, description, active, created_at, deleted_at
+            FROM category
+            ORDER BY id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // on MySQL only Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the whole result set
+    public CategoryExportRepositoryImpl(
+            final DataSource dataSource,
+            @Value("${category.export.fetch-size:1000}") final int fetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource));
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachListItem(final Consumer<CategoryListItem> action) {
+        jdbcTemplate.query(
+                connection -> connection.prepareStatement(SELECT, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY),
+                (ResultSet rs) -> action.accept(toListItem(rs))
+        );
+    }
+
+    private static CategoryListItem toListItem(final ResultSet rs) throws SQLException {
+        return new CategoryListItem(
+                CategoryID.from(CategoryIdJavaType.fromBytes(rs.getBytes("id"))),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBoolean("active"),
+                getInstant(rs, "created_at"),
+                getInstant(rs, "deleted_at")
+        );
+    }
+
+    private static Instant getInstant(final ResultSet rs, final String column) throws SQLException {
+        final var timestamp = rs.getTimestamp(column, Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+        return Objects.isNull(timestamp) ? null : timestamp.toInstant();
+    }
+}
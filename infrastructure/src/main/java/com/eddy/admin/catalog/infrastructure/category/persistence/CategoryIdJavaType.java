@@ -0,0 +1,72 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+// JPA attribute converters are not applied to @Id attributes, so the String <-> BINARY(16) mapping lives here
+public class CategoryIdJavaType extends AbstractClassJavaType<String> {
+
+    private static final int UUID_BYTES = 16;
+
+    public CategoryIdJavaType() {
+        super(String.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        if (byte[].class.equals(type)) {
+            return (X) toBytes(value);
+        }
+        if (String.class.equals(type)) {
+            return (X) value;
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(final X value, final WrapperOptions options) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        if (value instanceof byte[] bytes) {
+            return fromBytes(bytes);
+        }
+        if (value instanceof String string) {
+            return string;
+        }
+        throw unknownWrap(value.getClass());
+    }
+
+    // stored ids are always UUIDs, so anything else is bound as its raw bytes and simply matches no row
+    public static byte[] toBytes(final String anId) {
+        final UUID uuid;
+        try {
+            uuid = UUID.fromString(anId);
+        } catch (IllegalArgumentException e) {
+            return anId.getBytes(StandardCharsets.UTF_8);
+        }
+
+        return ByteBuffer.allocate(UUID_BYTES)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] aValue) {
+        if (aValue.length != UUID_BYTES) {
+            return new String(aValue, StandardCharsets.UTF_8);
+        }
+
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -6,6 +6,10 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 
@@ -14,7 +18,9 @@ import java.time.Instant;
 public class CategoryJpaEntity {
 
     @Id
-    @Column(name = "id", nullable = false)
+    @JavaType(CategoryIdJavaType.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -35,6 +41,10 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CategoryJpaEntity() {
     }
 
@@ -45,7 +55,8 @@ public class CategoryJpaEntity {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt) {
+            final Instant deletedAt,
+            final long version) {
 
         this.id = id;
         this.name = name;
@@ -54,6 +65,7 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category aCategory) {
@@ -64,7 +76,8 @@ public class CategoryJpaEntity {
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt()
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
         );
     }
 
@@ -76,7 +89,8 @@ public class CategoryJpaEntity {
                 isActive(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
@@ -135,4 +149,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
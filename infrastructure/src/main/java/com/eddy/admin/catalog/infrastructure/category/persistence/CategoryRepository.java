@@ -1,11 +1,66 @@
 package com.eddy.admin.catalog.infrastructure.category.persistence;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>,
+        JpaSpecificationExecutor<CategoryJpaEntity>, CategorySliceRepository, CategoryBatchRepository,
+        CategoryExportRepository {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    @Query("select c.id as id, c.name as name, c.description as description from CategoryJpaEntity c")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<CategorySearchableText> streamSearchableTexts();
+
+    @Query("select c.id as id, c.name as name, c.description as description from CategoryJpaEntity c where c.updatedAt >= :since")
+    List<CategorySearchableText> findSearchableTextsUpdatedSince(@Param("since") Instant since);
+
+    // JpaRepository.deleteById loads the entity before removing it; these run a single DELETE
+    @Transactional
+    @Modifying
+    @Query("delete from CategoryJpaEntity c where c.id = :id")
+    int bulkDeleteById(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from CategoryJpaEntity c where c.id in :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<String> ids);
+
+    // deleted_at keeps its original date when an inactive category stays inactive, as Category.deactivate does
+    @Transactional
+    @Modifying
+    @Query("""
+            update CategoryJpaEntity c
+            set c.name = :name,
+                c.description = :description,
+                c.active = :active,
+                c.updatedAt = :updatedAt,
+                c.deletedAt = case when :active = true then null else coalesce(c.deletedAt, :updatedAt) end,
+                c.version = c.version + 1
+            where c.id = :id and c.version = :version""")
+    int updateIfVersionMatches(
+            @Param("id") String id,
+            @Param("version") long version,
+            @Param("name") String name,
+            @Param("description") String description,
+            @Param("active") boolean active,
+            @Param("updatedAt") Instant updatedAt
+    );
 }
@@ -0,0 +1,10 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+public interface CategorySearchableText {
+
+    String getId();
+
+    String getName();
+
+    String getDescription();
+}
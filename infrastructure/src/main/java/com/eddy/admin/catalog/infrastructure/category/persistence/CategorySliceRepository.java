@@ -0,0 +1,15 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public interface CategorySliceRepository {
+
+    Slice<CategoryJpaEntity> findSlice(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    Slice<Tuple> findSlice(Specification<CategoryJpaEntity> whereClause, Pageable page, Collection<String> properties);
+}
@@ -0,0 +1,85 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Objects;
+
+public class CategorySliceRepositoryImpl implements CategorySliceRepository {
+
+    private final EntityManager entityManager;
+
+    public CategorySliceRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CategoryJpaEntity> findSlice(final Specification<CategoryJpaEntity> whereClause, final Pageable page) {
+        final var query = entityManager.getCriteriaBuilder().createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.select(root);
+
+        return slice(query, root, whereClause, page);
+    }
+
+    // selects only the given columns: no managed entities, no dirty-checking snapshots
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Tuple> findSlice(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Pageable page,
+            final Collection<String> properties
+    ) {
+        final var query = entityManager.getCriteriaBuilder().createTupleQuery();
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.multiselect(properties.stream()
+                .<Selection<?>>map(property -> root.get(property).alias(property))
+                .toList());
+
+        return slice(query, root, whereClause, page);
+    }
+
+    private <T> Slice<T> slice(
+            final CriteriaQuery<T> query,
+            final Root<CategoryJpaEntity> root,
+            final Specification<CategoryJpaEntity> whereClause,
+            final Pageable page
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+
+        if (Objects.nonNull(whereClause)) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (Objects.nonNull(predicate)) {
+                query.where(predicate);
+            }
+        }
+
+        if (page.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+        }
+
+        // one extra row tells whether there is a next page without a COUNT(*)
+        final var rows = entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > page.getPageSize();
+        final var content = hasNext ? rows.subList(0, page.getPageSize()) : rows;
+
+        return new SliceImpl<>(content, page, hasNext);
+    }
+}
@@ -0,0 +1,39 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import com.eddy.admin.catalog.domain.exceptions.DomainException;
+import com.eddy.admin.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * The only columns a listing can be sorted by. Each one has a matching {@code (column, id)} index,
+ * see V5__category_sort_indexes.sql, so a sorted page never needs a filesort.
+ */
+public enum CategorySort {
+    NAME("name", "name"),
+    CREATED_AT("created_at", "createdAt"),
+    UPDATED_AT("updated_at", "updatedAt");
+
+    private final String column;
+    private final String property;
+
+    CategorySort(final String column, final String property) {
+        this.column = column;
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public static CategorySort of(final String aValue) {
+        return Arrays.stream(values())
+                .filter(it -> it.column.equalsIgnoreCase(aValue) || it.property.equalsIgnoreCase(aValue))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("Invalid sort '%s', expected one of: %s".formatted(
+                        aValue,
+                        Arrays.stream(values()).map(it -> it.column).collect(Collectors.joining(", "))
+                ))));
+    }
+}
@@ -1,9 +1,15 @@
 package com.eddy.admin.catalog.infrastructure.category.presenter;
 
+import com.eddy.admin.catalog.application.category.create.CreateCategoryOutput;
+import com.eddy.admin.catalog.application.category.create.imports.ImportCategoryOutput;
 import com.eddy.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.eddy.admin.catalog.domain.validation.handler.Notification;
+import com.eddy.admin.catalog.infrastructure.category.models.BatchCreateCategoryResponse;
 import com.eddy.admin.catalog.infrastructure.category.models.CategoryResponse;
+import com.eddy.admin.catalog.infrastructure.category.models.ImportCategoryResponse;
 import com.eddy.admin.catalog.infrastructure.category.models.ListCategoryResponse;
+import io.vavr.control.Either;
 
 public interface CategoryApiPresenter {
 
@@ -16,7 +22,8 @@ public interface CategoryApiPresenter {
                 output.active(),
                 output.createdAt(),
                 output.updatedAt(),
-                output.deletedAt()
+                output.deletedAt(),
+                output.version()
         );
     }
 
@@ -31,4 +38,24 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static BatchCreateCategoryResponse presenter(final int index, final Either<Notification, CreateCategoryOutput> result) {
+
+        return result.fold(
+                notification -> new BatchCreateCategoryResponse(index, null, notification.getErrors()),
+                output -> new BatchCreateCategoryResponse(index, output.id(), null)
+        );
+    }
+
+    static ImportCategoryResponse presenter(final ImportCategoryOutput output) {
+
+        return new ImportCategoryResponse(
+                output.lines(),
+                output.imported(),
+                output.failed(),
+                output.errors().stream()
+                        .map(error -> new ImportCategoryResponse.LineErrors(error.line(), error.errors()))
+                        .toList()
+        );
+    }
 }
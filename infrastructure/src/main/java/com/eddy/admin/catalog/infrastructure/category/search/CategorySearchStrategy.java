@@ -0,0 +1,20 @@
+package com.eddy.admin.catalog.infrastructure.category.search;
+
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface CategorySearchStrategy {
+
+    Specification<CategoryJpaEntity> matching(String terms);
+
+    default Specification<CategoryJpaEntity> ranking(final String terms, final Sort sort) {
+        return null;
+    }
+
+    default void index(final CategoryJpaEntity category) {
+    }
+
+    default void remove(final String id) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.eddy.admin.catalog.infrastructure.category.search;
+
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.utils.SpecificationUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "category.search.strategy", havingValue = "fulltext")
+public class FullTextCategorySearch implements CategorySearchStrategy {
+
+    // InnoDB defaults: shorter words and stopwords are never indexed, so requiring them would match nothing
+    private static final int MIN_TOKEN_SIZE = 3;
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how", "i", "in",
+            "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what", "when", "where", "who",
+            "will", "with", "und", "www"
+    );
+
+    private final LikeCategorySearch fallback = new LikeCategorySearch();
+
+    @Override
+    public Specification<CategoryJpaEntity> matching(final String terms) {
+        final var booleanQuery = toBooleanQuery(terms);
+        return booleanQuery.isEmpty() ? fallback.matching(terms) : SpecificationUtils.matchAgainst(booleanQuery);
+    }
+
+    @Override
+    public Specification<CategoryJpaEntity> ranking(final String terms, final Sort sort) {
+        final var booleanQuery = toBooleanQuery(terms);
+        return booleanQuery.isEmpty() ? null : SpecificationUtils.orderByRelevance(booleanQuery, sort);
+    }
+
+    // every indexable word is required and matched as a prefix; with none left the LIKE search takes over
+    static String toBooleanQuery(final String terms) {
+        return Arrays.stream(terms.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+"))
+                .filter(word -> word.length() >= MIN_TOKEN_SIZE)
+                .filter(word -> !STOPWORDS.contains(word.toLowerCase(Locale.ROOT)))
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,20 @@
+package com.eddy.admin.catalog.infrastructure.category.search;
+
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.utils.SpecificationUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "category.search.strategy", havingValue = "like", matchIfMissing = true)
+public class LikeCategorySearch implements CategorySearchStrategy {
+
+    @Override
+    public Specification<CategoryJpaEntity> matching(final String terms) {
+        final Specification<CategoryJpaEntity> nameLike = SpecificationUtils.like("name", terms);
+        final Specification<CategoryJpaEntity> descriptionLike = SpecificationUtils.like("description", terms);
+
+        return nameLike.or(descriptionLike);
+    }
+}
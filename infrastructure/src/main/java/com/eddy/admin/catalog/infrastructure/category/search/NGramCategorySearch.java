@@ -0,0 +1,169 @@
+package com.eddy.admin.catalog.infrastructure.category.search;
+
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategorySearchableText;
+import com.eddy.admin.catalog.infrastructure.utils.SpecificationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Narrows searches with an in-memory trigram index. Writes made through this instance are indexed right away;
+ * rows created or renamed by other instances are picked up by a periodic {@code updated_at} refresh, and a
+ * periodic rebuild drops the rows they deleted. Above {@code max-rows} the table is not indexed at all and every
+ * search falls back to the LIKE predicate; each rebuild checks the row count again.
+ */
+@Component
+@ConditionalOnProperty(name = "category.search.strategy", havingValue = "ngram")
+public class NGramCategorySearch implements CategorySearchStrategy, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NGramCategorySearch.class);
+
+    private final CategoryRepository repository;
+    private final TransactionTemplate transaction;
+    private final int maxCandidates;
+    private final int maxRows;
+    private final Duration refreshInterval;
+    private final Duration rebuildInterval;
+    private final LikeCategorySearch verification = new LikeCategorySearch();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "category-ngram-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile TrigramIndex index = new TrigramIndex();
+    private volatile TrigramIndex building;
+    private volatile Instant refreshedSince;
+    private volatile boolean ready;
+
+    public NGramCategorySearch(
+            final CategoryRepository repository,
+            final TransactionTemplate transaction,
+            @Value("${category.search.ngram.max-candidates:5000}") final int maxCandidates,
+            @Value("${category.search.ngram.max-rows:500000}") final int maxRows,
+            @Value("${category.search.ngram.refresh-interval:30s}") final Duration refreshInterval,
+            @Value("${category.search.ngram.rebuild-interval:1h}") final Duration rebuildInterval
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.transaction = Objects.requireNonNull(transaction);
+        this.maxCandidates = maxCandidates;
+        this.maxRows = maxRows;
+        this.refreshInterval = Objects.requireNonNull(refreshInterval);
+        this.rebuildInterval = Objects.requireNonNull(rebuildInterval);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        scheduler.scheduleWithFixedDelay(
+                () -> run("refresh", this::refresh),
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(
+                () -> run("rebuild", this::rebuild),
+                rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // the new index is swapped in whole; writes made through this instance meanwhile go to both indexes
+    void rebuild() {
+        final var startedAt = Instant.now();
+        final var next = new TrigramIndex();
+        building = next;
+        try {
+            transaction.executeWithoutResult(status -> {
+                try (final var texts = repository.streamSearchableTexts()) {
+                    texts.limit(maxRows + 1L).forEach(it -> put(next, it));
+                }
+            });
+            if (next.size() > maxRows) {
+                LOGGER.warn("More than {} categories, searching with LIKE instead of the trigram index", maxRows);
+                ready = false;
+                index = new TrigramIndex();
+                return;
+            }
+            index = next;
+            refreshedSince = startedAt.minus(refreshInterval);
+            ready = true;
+        } finally {
+            building = null;
+        }
+    }
+
+    // the window overlaps the previous one, so rows committed late or stamped by a lagging clock are not missed
+    void refresh() {
+        if (!ready) {
+            return;
+        }
+
+        final var startedAt = Instant.now();
+        final var current = index;
+        repository.findSearchableTextsUpdatedSince(refreshedSince).forEach(it -> put(current, it));
+        refreshedSince = startedAt.minus(refreshInterval);
+    }
+
+    // candidates come from the index and are confirmed by the LIKE predicate on a primary key lookup
+    @Override
+    public Specification<CategoryJpaEntity> matching(final String terms) {
+        final var like = verification.matching(terms);
+        if (!ready) {
+            return like;
+        }
+
+        return index.candidates(terms)
+                .filter(ids -> ids.size() <= maxCandidates)
+                .map(ids -> SpecificationUtils.idIn(ids).and(like))
+                .orElse(like);
+    }
+
+    @Override
+    public void index(final CategoryJpaEntity category) {
+        final var next = building;
+        if (ready) {
+            index.put(category.getId(), category.getName(), category.getDescription());
+        }
+        if (next != null) {
+            next.put(category.getId(), category.getName(), category.getDescription());
+        }
+    }
+
+    @Override
+    public void remove(final String id) {
+        final var next = building;
+        index.remove(id);
+        if (next != null) {
+            next.remove(id);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private static void put(final TrigramIndex target, final CategorySearchableText text) {
+        target.put(text.getId(), text.getName(), text.getDescription());
+    }
+
+    // an exception would cancel the periodic task for good
+    private static void run(final String task, final Runnable action) {
+        try {
+            action.run();
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Could not {} the category trigram index", task, e);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.eddy.admin.catalog.infrastructure.category.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Each category gets an int document number; postings are sorted int arrays of those numbers and a single array
+ * maps them back to category ids. Only the normalized text is kept per document, and its trigrams are recomputed
+ * when the document is replaced or removed. Numbers of removed documents are not reused until the next rebuild.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char TEXT_SEPARATOR = '\u0000';
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> documents = new HashMap<>();
+    private String[] ids = new String[16];
+    private String[] texts = new String[16];
+    private int nextDocument;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(final String id, final String... texts) {
+        final var text = normalize(texts);
+
+        lock.writeLock().lock();
+        try {
+            final var document = documents.computeIfAbsent(id, this::newDocument);
+            unindex(document);
+            this.texts[document] = text;
+            grams(text).forEach(gram -> postings.computeIfAbsent(gram, key -> new Postings()).add(document));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String id) {
+        lock.writeLock().lock();
+        try {
+            final var document = documents.remove(id);
+            if (Objects.nonNull(document)) {
+                unindex(document);
+                ids[document] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            ids = new String[16];
+            texts = new String[16];
+            nextDocument = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // a superset of the substring matches, empty when the term is shorter than a trigram
+    public Optional<Set<String>> candidates(final String term) {
+        final var grams = grams(normalize(term));
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            final var lists = new Postings[grams.size()];
+            var i = 0;
+            for (final var gram : grams) {
+                final var list = postings.get(gram);
+                if (Objects.isNull(list)) {
+                    return Optional.of(Set.of());
+                }
+                lists[i++] = list;
+            }
+
+            Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+
+            var result = Arrays.copyOf(lists[0].documents, lists[0].size);
+            for (var j = 1; j < lists.length && result.length > 0; j++) {
+                result = lists[j].retain(result);
+            }
+
+            final var matches = HashSet.<String>newHashSet(result.length);
+            for (final var document : result) {
+                matches.add(ids[document]);
+            }
+            return Optional.of(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int newDocument(final String id) {
+        if (nextDocument == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            texts = Arrays.copyOf(texts, texts.length * 2);
+        }
+        ids[nextDocument] = id;
+        return nextDocument++;
+    }
+
+    private void unindex(final int document) {
+        final var previous = texts[document];
+        if (Objects.isNull(previous)) {
+            return;
+        }
+
+        texts[document] = null;
+        grams(previous).forEach(gram -> {
+            final var list = postings.get(gram);
+            list.remove(document);
+            if (list.size() == 0) {
+                postings.remove(gram);
+            }
+        });
+    }
+
+    private static String normalize(final String... texts) {
+        final var normalized = new StringBuilder();
+        for (final var text : texts) {
+            if (Objects.nonNull(text)) {
+                normalized.append(text.toUpperCase(Locale.ROOT)).append(TEXT_SEPARATOR);
+            }
+        }
+        return normalized.toString();
+    }
+
+    // distinct trigrams, never spanning two texts of the same document
+    private static Set<String> grams(final String text) {
+        final var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            final var gram = text.substring(i, i + GRAM_LENGTH);
+            if (gram.indexOf(TEXT_SEPARATOR) < 0) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        // a rebuild adds documents in ascending order, which only appends
+        void add(final int document) {
+            if (size > 0 && documents[size - 1] >= document) {
+                final var at = Arrays.binarySearch(documents, 0, size, document);
+                if (at >= 0) {
+                    return;
+                }
+                insert(-at - 1, document);
+                return;
+            }
+            insert(size, document);
+        }
+
+        void remove(final int document) {
+            final var at = Arrays.binarySearch(documents, 0, size, document);
+            if (at >= 0) {
+                System.arraycopy(documents, at + 1, documents, at, size - at - 1);
+                size--;
+            }
+        }
+
+        // the documents of the sorted array that are also in this list
+        int[] retain(final int[] sorted) {
+            final var kept = new int[sorted.length];
+            var count = 0;
+            var i = 0;
+            for (final var document : sorted) {
+                while (i < size && documents[i] < document) {
+                    i++;
+                }
+                if (i == size) {
+                    break;
+                }
+                if (documents[i] == document) {
+                    kept[count++] = document;
+                }
+            }
+            return Arrays.copyOf(kept, count);
+        }
+
+        private void insert(final int at, final int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            System.arraycopy(documents, at, documents, at + 1, size - at);
+            documents[at] = document;
+            size++;
+        }
+    }
+}
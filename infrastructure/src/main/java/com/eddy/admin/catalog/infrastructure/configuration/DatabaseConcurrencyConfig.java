@@ -0,0 +1,24 @@
+package com.eddy.admin.catalog.infrastructure.configuration;
+
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DatabaseConcurrencyLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Shares the {@code category.datasource.max-concurrency} permits between the gateway and the background recounts
+ * of {@link com.eddy.admin.catalog.infrastructure.category.CategoryTotalCounter}. Exports keep their own limiter.
+ */
+@Configuration
+public class DatabaseConcurrencyConfig {
+
+    @Bean
+    public DatabaseConcurrencyLimiter databaseConcurrencyLimiter(
+            @Value("${category.datasource.max-concurrency:18}") final int maxConcurrency,
+            @Value("${category.datasource.acquire-timeout:1s}") final Duration acquireTimeout
+    ) {
+        return new DatabaseConcurrencyLimiter(maxConcurrency, acquireTimeout);
+    }
+}
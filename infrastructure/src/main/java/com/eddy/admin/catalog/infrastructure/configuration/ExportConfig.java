@@ -0,0 +1,64 @@
+package com.eddy.admin.catalog.infrastructure.configuration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Streams {@code GET /categories/export} on its own small pool instead of the application task executor, so long
+ * exports cannot starve the async use cases. The export is the only MVC async response body; once every export
+ * thread is busy a new export is refused with 503. The pool is not a bean, which would replace the auto-configured
+ * application task executor. For the same reason only the export gets {@code category.export.timeout}; the async
+ * list and get keep the short {@code spring.mvc.async.request-timeout}.
+ */
+@Configuration
+public class ExportConfig implements WebMvcConfigurer, DisposableBean {
+
+    private final ThreadPoolTaskExecutor exportExecutor = new ThreadPoolTaskExecutor();
+    private final Duration timeout;
+
+    public ExportConfig(
+            @Value("${category.export.max-concurrency:2}") final int maxConcurrency,
+            @Value("${category.export.timeout:30m}") final Duration timeout,
+            final ObjectProvider<TaskDecorator> taskDecorator
+    ) {
+        this.timeout = timeout;
+        exportExecutor.setThreadNamePrefix("export-");
+        exportExecutor.setCorePoolSize(maxConcurrency);
+        exportExecutor.setMaxPoolSize(maxConcurrency);
+        exportExecutor.setQueueCapacity(0);
+        taskDecorator.ifUnique(exportExecutor::setTaskDecorator);
+        exportExecutor.initialize();
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportExecutor);
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+
+            // runs after the default timeout was applied and before the async request starts
+            @Override
+            public <T> void beforeConcurrentHandling(final NativeWebRequest request, final Callable<T> task) {
+                if (request instanceof AsyncWebRequest asyncRequest) {
+                    asyncRequest.setTimeout(timeout.toMillis());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        exportExecutor.shutdown();
+    }
+}
@@ -0,0 +1,31 @@
+package com.eddy.admin.catalog.infrastructure.configuration;
+
+import com.eddy.admin.catalog.infrastructure.configuration.jfr.FlightRecordingEndpoint;
+import com.eddy.admin.catalog.infrastructure.configuration.jfr.RequestEventFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestEventFilter> requestEventFilter() {
+        final var registration = new FilterRegistrationBean<>(new RequestEventFilter());
+        registration.addUrlPatterns("/categories/*");
+        return registration;
+    }
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(
+            @Value("${category.jfr.recording.duration:60s}") final Duration duration,
+            @Value("${category.jfr.recording.max-duration:10m}") final Duration maxDuration,
+            @Value("${category.jfr.recording.max-size:64MB}") final DataSize maxSize
+    ) {
+        return new FlightRecordingEndpoint(duration, maxDuration, maxSize.toBytes());
+    }
+}
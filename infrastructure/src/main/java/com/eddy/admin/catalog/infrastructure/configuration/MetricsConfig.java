@@ -0,0 +1,16 @@
+package com.eddy.admin.catalog.infrastructure.configuration;
+
+import com.eddy.admin.catalog.infrastructure.configuration.metrics.UseCaseInstrumentationPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static UseCaseInstrumentationPostProcessor useCaseMetricsPostProcessor(final ObjectProvider<MeterRegistry> registry) {
+        return new UseCaseInstrumentationPostProcessor(registry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.eddy.admin.catalog.infrastructure.configuration;
+
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.StatementCounter;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.StatementCountingDataSourcePostProcessor;
+import com.eddy.admin.catalog.infrastructure.configuration.metrics.StatementCountFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+@ConditionalOnProperty(name = "category.datasource.count-statements", havingValue = "true", matchIfMissing = true)
+public class StatementCountConfig {
+
+    @Bean
+    public static StatementCountingDataSourcePostProcessor statementCountingDataSourcePostProcessor() {
+        return new StatementCountingDataSourcePostProcessor();
+    }
+
+    @Bean
+    public TaskDecorator statementCountPropagation() {
+        return StatementCounter::propagate;
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(final MeterRegistry registry) {
+        final var registration = new FilterRegistrationBean<>(new StatementCountFilter(registry));
+        registration.addUrlPatterns("/categories/*");
+        return registration;
+    }
+}
@@ -0,0 +1,49 @@
+package com.eddy.admin.catalog.infrastructure.configuration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Dispatches every servlet request to its own virtual thread instead of Undertow's fixed worker pool.
+ * Replacing the application task executor moves async use cases onto virtual threads too; the export keeps its own
+ * bounded pool from {@link ExportConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "category.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService virtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("virtual-", 0).factory());
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(
+            final ExecutorService virtualThreadExecutor,
+            final ObjectProvider<TaskDecorator> taskDecorator
+    ) {
+        final var executor = new TaskExecutorAdapter(virtualThreadExecutor);
+        taskDecorator.ifUnique(executor::setTaskDecorator);
+        return executor;
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadUndertowCustomizer(
+            final ExecutorService virtualThreadExecutor
+    ) {
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo
+                .setExecutor(virtualThreadExecutor)
+                .setAsyncExecutor(virtualThreadExecutor));
+    }
+}
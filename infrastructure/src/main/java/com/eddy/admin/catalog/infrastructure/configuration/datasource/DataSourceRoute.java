@@ -0,0 +1,25 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+import java.util.function.Supplier;
+
+public enum DataSourceRoute {
+
+    PRIMARY,
+    REPLICA;
+
+    private static final ThreadLocal<DataSourceRoute> CURRENT = ThreadLocal.withInitial(() -> PRIMARY);
+
+    public static DataSourceRoute current() {
+        return CURRENT.get();
+    }
+
+    public <T> T call(final Supplier<T> action) {
+        final var previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(final String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,45 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many callers run database work at once. Waiting happens on a fair semaphore, where a parked
+ * virtual thread costs nothing, instead of in the connection pool whose short timeout fails bursts fast.
+ */
+public class DatabaseConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    public DatabaseConcurrencyLimiter(final int maxConcurrency, final Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    public <T> T call(final Supplier<T> action) {
+        acquire();
+        try {
+            return action.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new DatabaseBusyException("Too many concurrent database operations, try again later");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for a database slot");
+        }
+    }
+}
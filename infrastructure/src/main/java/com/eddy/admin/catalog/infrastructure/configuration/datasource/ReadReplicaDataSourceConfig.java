@@ -0,0 +1,55 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Only active when {@code spring.datasource.replica.url} is set. The replica pool inherits
+ * {@code spring.datasource.hikari} and can override it under {@code spring.datasource.replica.hikari}.
+ */
+@Configuration
+@ConditionalOnProperty("spring.datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties, final Environment environment) {
+        final var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        final var binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(final DataSourceProperties properties, final Environment environment) {
+        final var dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(environment.getRequiredProperty("spring.datasource.replica.url"))
+                .username(environment.getProperty("spring.datasource.replica.username", properties.determineUsername()))
+                .password(environment.getProperty("spring.datasource.replica.password", properties.determinePassword()))
+                .build();
+        final var binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("replica");
+        binder.bind("spring.datasource.replica.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") final DataSource replicaDataSource
+    ) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+}
@@ -0,0 +1,74 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the JDBC statements executed through {@link StatementCountingDataSource} while a scope is open on the
+ * current thread. Scopes nest, so a use case scope opened inside a request scope adds to both, and
+ * {@link #propagate(Runnable)} carries the current scope over to the thread that runs an async use case.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static Scope open() {
+        final var scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Runnable propagate(final Runnable task) {
+        final var captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+
+        return () -> {
+            final var previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    static void increment() {
+        for (var scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count.incrementAndGet();
+        }
+    }
+
+    private static void restore(final Scope scope) {
+        if (scope == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final AtomicLong count = new AtomicLong();
+
+        private Scope(final Scope parent) {
+            this.parent = parent;
+        }
+
+        public long count() {
+            return count.get();
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                restore(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Wraps the application {@link DataSource} so every statement execution, whether issued by Hibernate or by the
+ * {@code JdbcTemplate} batch and export paths, is reported to {@link StatementCounter}. A batch counts as one
+ * statement, since it is a single round trip.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    public StatementCountingDataSource(final DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(final Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            final var result = invoke(connection, method, args);
+            return result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())
+                    ? counting(statement, method.getReturnType())
+                    : result;
+        });
+    }
+
+    private static Object counting(final Statement statement, final Class<?> type) {
+        return proxy(type, statement, (method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                StatementCounter.increment();
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static <T> T proxy(final Class<T> type, final Object target, final Handler handler) {
+        final var proxy = Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (self, method, args) -> switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "toString" -> "Counting " + target;
+                    default -> handler.handle(method, args);
+                }
+        );
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,21 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the primary {@code dataSource} bean in a {@link StatementCountingDataSource}. Only that bean: with a read
+ * replica the routing data source already sits on top of both pools, and wrapping them too would count twice.
+ */
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        return bean instanceof DataSource dataSource && DATA_SOURCE_BEAN_NAME.equals(beanName)
+                ? new StatementCountingDataSource(dataSource)
+                : bean;
+    }
+}
@@ -0,0 +1,60 @@
+package com.eddy.admin.catalog.infrastructure.configuration.jfr;
+
+import com.eddy.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Fields shared by the use case and gateway events. They are filled from the call's argument and result only
+ * once the event is going to be committed, so a JVM without an active recording pays for the timestamps alone.
+ */
+@jdk.jfr.Category({"Catalog Admin"})
+@StackTrace(false)
+abstract class CategoryEvent extends Event {
+
+    @Label("Category ID")
+    String categoryId;
+
+    @Label("Search Terms")
+    String terms;
+
+    @Label("Page Size")
+    int perPage;
+
+    @Label("Rows")
+    long rows = -1;
+
+    void argument(final Object argument) {
+        switch (argument) {
+            case CategorySearchQuery query -> {
+                terms = query.terms();
+                perPage = query.perPage();
+            }
+            case CategoryID id -> categoryId = id.getValue();
+            case Category category -> categoryId = category.getId().getValue();
+            case UpdateCategoryCommand command -> categoryId = command.id();
+            case String id -> categoryId = id;
+            case Collection<?> items -> rows = items.size();
+            case null, default -> {
+            }
+        }
+    }
+
+    void result(final Object result) {
+        switch (result) {
+            case Pagination<?> page -> rows = page.items().size();
+            case Collection<?> items -> rows = items.size();
+            case Optional<?> optional -> rows = optional.isPresent() ? 1 : 0;
+            case null, default -> {
+            }
+        }
+    }
+}
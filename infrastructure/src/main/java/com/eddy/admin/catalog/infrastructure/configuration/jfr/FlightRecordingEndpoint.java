@@ -0,0 +1,124 @@
+package com.eddy.admin.catalog.infrastructure.configuration.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@code POST /actuator/flightrecording} starts a recording with the JDK "default" settings, which keep the catalog events,
+ * {@code GET} dumps it as a .jfr file and {@code DELETE} discards it. Recordings stop on their own after the requested
+ * duration and are capped in size, so a forgotten one cannot fill the disk. Inspect a capture with
+ * {@code jfr print --events 'com.eddy.admin.catalog.*' capture.jfr} or {@code jfr summary capture.jfr}.
+ * <p>
+ * The endpoint is disabled by default and the events that capture the environment, system properties, JVM arguments
+ * and process command lines are turned off, since they carry credentials.
+ */
+@Endpoint(id = "flightrecording", enableByDefault = false)
+public class FlightRecordingEndpoint {
+
+    private static final Set<String> SENSITIVE_EVENTS = Set.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess"
+    );
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final long maxSize;
+
+    private Recording recording;
+
+    public FlightRecordingEndpoint(final Duration defaultDuration, final Duration maxDuration, final long maxSize) {
+        this.defaultDuration = Objects.requireNonNull(defaultDuration);
+        this.maxDuration = Objects.requireNonNull(maxDuration);
+        this.maxSize = maxSize;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable final Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        discard();
+
+        final var requested = Objects.requireNonNullElse(duration, defaultDuration);
+        final var newRecording = new Recording(settings());
+        newRecording.setName("catalog-admin");
+        newRecording.setDuration(requested.compareTo(maxDuration) > 0 ? maxDuration : requested);
+        newRecording.setMaxSize(maxSize);
+        newRecording.setToDisk(true);
+        newRecording.start();
+
+        recording = newRecording;
+        return status();
+    }
+
+    // the dump is streamed from a temporary file that is deleted once the response has read it
+    @ReadOperation
+    public synchronized WebEndpointResponse<Resource> dump() {
+        if (recording == null || recording.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+
+        try {
+            final var file = Files.createTempFile("catalog-admin-", ".jfr");
+            try {
+                recording.dump(file);
+                final var content = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+                return new WebEndpointResponse<>(new InputStreamResource(content, "catalog-admin.jfr"));
+            } catch (final IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DeleteOperation
+    public synchronized void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Map<String, Object> status() {
+        return Map.of(
+                "state", recording.getState().name(),
+                "started_at", String.valueOf(recording.getStartTime()),
+                "duration", String.valueOf(recording.getDuration()),
+                "max_size", recording.getMaxSize()
+        );
+    }
+
+    private static Map<String, String> settings() {
+        try {
+            final var settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            SENSITIVE_EVENTS.forEach(event -> settings.put(event + "#enabled", "false"));
+            return settings;
+        } catch (final IOException | ParseException e) {
+            throw new IllegalStateException("JFR default configuration is not available", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.eddy.admin.catalog.infrastructure.configuration.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.eddy.admin.catalog.Gateway")
+@Label("Category Gateway Call")
+public class GatewayEvent extends CategoryEvent {
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+
+    @Label("Version")
+    long version = -1;
+
+    public static GatewayEvent start() {
+        final var event = new GatewayEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(final String method, final Object argument, final Object result, final boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.failed = failed;
+            argument(argument);
+            // both return a bare long: the new version of the row, and the rows streamed by the export
+            switch (method) {
+                case "updateIfVersionMatches" -> version = result instanceof Long aVersion ? aVersion : -1;
+                case "forEachListItem" -> rows = result instanceof Long count ? count : -1;
+                default -> result(result);
+            }
+            commit();
+        }
+    }
+}
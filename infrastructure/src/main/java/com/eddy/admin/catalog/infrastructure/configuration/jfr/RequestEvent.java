@@ -0,0 +1,25 @@
+package com.eddy.admin.catalog.infrastructure.configuration.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.eddy.admin.catalog.Request")
+@Label("Category API Request")
+@jdk.jfr.Category({"Catalog Admin"})
+@StackTrace(false)
+class RequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Query")
+    String query;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,68 @@
+package com.eddy.admin.catalog.infrastructure.configuration.jfr;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Wraps each request in a {@link RequestEvent}. Async requests (list, get by id, export) are committed when the
+ * async processing completes, so the event spans the whole exchange and not just the initial dispatch.
+ */
+public class RequestEventFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var event = new RequestEvent();
+        event.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new Completion(event, request, response));
+            } else {
+                commit(event, request, response);
+            }
+        }
+    }
+
+    private static void commit(final RequestEvent event, final HttpServletRequest request, final HttpServletResponse response) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = request.getMethod();
+            event.path = request.getRequestURI();
+            event.query = request.getQueryString();
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+
+    private record Completion(RequestEvent event, HttpServletRequest request, HttpServletResponse response) implements AsyncListener {
+
+        @Override
+        public void onComplete(final AsyncEvent asyncEvent) {
+            commit(event, request, response);
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent asyncEvent) {
+        }
+
+        @Override
+        public void onError(final AsyncEvent asyncEvent) {
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent asyncEvent) {
+        }
+    }
+}
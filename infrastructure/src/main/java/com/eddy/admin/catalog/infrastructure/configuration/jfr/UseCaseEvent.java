@@ -0,0 +1,32 @@
+package com.eddy.admin.catalog.infrastructure.configuration.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.eddy.admin.catalog.UseCase")
+@Label("Use Case Execution")
+public class UseCaseEvent extends CategoryEvent {
+
+    @Label("Use Case")
+    String useCase;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static UseCaseEvent start() {
+        final var event = new UseCaseEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(final String useCase, final Object input, final Object output, final String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.useCase = useCase;
+            this.outcome = outcome;
+            argument(input);
+            result(output);
+            commit();
+        }
+    }
+}
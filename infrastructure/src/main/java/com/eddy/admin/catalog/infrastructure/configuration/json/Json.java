@@ -1,15 +1,20 @@
 package com.eddy.admin.catalog.infrastructure.configuration.json;
 
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 
 public enum Json {
@@ -27,6 +32,17 @@ public enum Json {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
 
+    public static NdjsonWriter ndjsonWriter(final OutputStream out) {
+        return invoke(() -> new NdjsonWriter(
+                INSTANCE.mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE),
+                INSTANCE.mapper.getFactory().createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        ));
+    }
+
+    public static <T> NdjsonReader<T> ndjsonReader(final InputStream in, final Class<T> clazz, final int maxLineSize) {
+        return new NdjsonReader<>(INSTANCE.mapper.readerFor(clazz), in, maxLineSize);
+    }
+
     private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
             .dateFormat(new StdDateFormat())
             .featuresToDisable(
@@ -35,15 +51,13 @@ public enum Json {
                     DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
                     SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
             )
-            .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
+            .modules(new JavaTimeModule(), new Jdk8Module(), new BlackbirdModule(), paginationModule())
             .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
             .build();
 
-    private AfterburnerModule afterburnerModule() {
-        var module = new AfterburnerModule();
-        // make Afterburner generate bytecode only for public getters/setter and fields
-        // without this, Java 9+ complains of "Illegal reflective access"
-        module.setUseValueClassLoader(false);
+    private SimpleModule paginationModule() {
+        final var module = new SimpleModule("pagination");
+        module.setMixInAnnotation(Pagination.class, PaginationMixIn.class);
         return module;
     }
 
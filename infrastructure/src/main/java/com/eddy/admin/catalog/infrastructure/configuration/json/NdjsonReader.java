@@ -0,0 +1,146 @@
+package com.eddy.admin.catalog.infrastructure.configuration.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Reads one JSON document per line, skipping blank lines. The raw bytes of the current line are handed to the
+ * parser as they are, and a line longer than {@code maxRecordSize} bytes is skipped without being buffered. A
+ * malformed or oversized line is returned as a {@code Left} with the parser message and column instead of ending
+ * the stream.
+ */
+public class NdjsonReader<T> implements Iterator<NdjsonReader.Line<T>> {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final ObjectReader reader;
+    private final InputStream source;
+    private final int maxRecordSize;
+    private final byte[] chunk = new byte[8192];
+    private int position;
+    private int limit;
+    private byte[] record = new byte[256];
+    private int length;
+    private boolean oversized;
+    private boolean pending;
+    private long number;
+
+    NdjsonReader(final ObjectReader reader, final InputStream source, final int maxRecordSize) {
+        this.reader = Objects.requireNonNull(reader);
+        this.source = Objects.requireNonNull(source);
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (!pending) {
+                if (!readRecord()) {
+                    return false;
+                }
+
+                number++;
+                pending = oversized || !isBlank();
+            }
+            return true;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Line<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        pending = false;
+
+        if (oversized) {
+            return new Line<>(number, API.Left("Line is longer than %d bytes".formatted(maxRecordSize)));
+        }
+
+        try {
+            return new Line<>(number, API.Right(reader.readValue(record, 0, length)));
+        } catch (final JsonProcessingException e) {
+            return new Line<>(number, API.Left(messageOf(e)));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // false once the input is exhausted; a last line without a trailing new line is still a record
+    private boolean readRecord() throws IOException {
+        length = 0;
+        oversized = false;
+        var read = false;
+
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(0, source.read(chunk));
+                position = 0;
+                if (limit == 0) {
+                    return read;
+                }
+            }
+
+            read = true;
+            final var start = position;
+            while (position < limit && chunk[position] != NEW_LINE) {
+                position++;
+            }
+            append(start, position - start);
+
+            if (position < limit) {
+                position++;
+                return true;
+            }
+        }
+    }
+
+    private void append(final int offset, final int count) {
+        if (oversized || count == 0) {
+            return;
+        }
+
+        if (length + count > maxRecordSize) {
+            oversized = true;
+            return;
+        }
+
+        if (length + count > record.length) {
+            record = Arrays.copyOf(record, Math.min(maxRecordSize, Math.max(record.length * 2, length + count)));
+        }
+        System.arraycopy(chunk, offset, record, length, count);
+        length += count;
+    }
+
+    private boolean isBlank() {
+        for (var i = 0; i < length; i++) {
+            if (!Character.isWhitespace(record[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String messageOf(final JsonProcessingException e) {
+        final var location = e.getLocation();
+        return Objects.isNull(location) || location.getColumnNr() < 1
+                ? e.getOriginalMessage()
+                : "%s (column %d)".formatted(e.getOriginalMessage(), location.getColumnNr());
+    }
+
+    public record Line<T>(long number, Either<String, T> value) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.eddy.admin.catalog.infrastructure.configuration.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Writes one JSON document per line. Output is only flushed when the generator buffer fills up
+ * or on {@link #close()}, which leaves the underlying stream open.
+ */
+public class NdjsonWriter implements Closeable {
+
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+
+    NdjsonWriter(final ObjectWriter writer, final JsonGenerator generator) {
+        this.writer = Objects.requireNonNull(writer);
+        this.generator = Objects.requireNonNull(generator);
+    }
+
+    public void write(final Object value) {
+        try {
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.eddy.admin.catalog.infrastructure.configuration.json;
+
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * The page is written like any other record; only a {@link Pagination#UNKNOWN_TOTAL} becomes a null total.
+ */
+abstract class PaginationMixIn {
+
+    @JsonSerialize(using = TotalSerializer.class)
+    abstract long total();
+
+    static class TotalSerializer extends StdSerializer<Long> {
+
+        TotalSerializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public void serialize(final Long total, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            if (total == Pagination.UNKNOWN_TOTAL) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(total);
+            }
+        }
+    }
+}
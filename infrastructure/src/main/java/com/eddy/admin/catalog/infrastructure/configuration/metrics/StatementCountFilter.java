@@ -0,0 +1,91 @@
+package com.eddy.admin.catalog.infrastructure.configuration.metrics;
+
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Records how many SQL statements each request executed, tagged by method and route template, so an N+1 shows up
+ * as a shift in the distribution rather than only as latency. Statements run by async use cases are included,
+ * since the request scope is propagated to the application task executor.
+ */
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "category.request.statements";
+
+    private final MeterRegistry registry;
+
+    public StatementCountFilter(final MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var statements = StatementCounter.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statements.close();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new Completion(statements, request));
+            } else {
+                record(statements, request);
+            }
+        }
+    }
+
+    private void record(final StatementCounter.Scope statements, final HttpServletRequest request) {
+        final var route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", route == null ? "UNKNOWN" : route.toString())
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(statements.count());
+    }
+
+    private final class Completion implements AsyncListener {
+
+        private final StatementCounter.Scope statements;
+        private final HttpServletRequest request;
+
+        private Completion(final StatementCounter.Scope statements, final HttpServletRequest request) {
+            this.statements = statements;
+            this.request = request;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent asyncEvent) {
+            record(statements, request);
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent asyncEvent) {
+        }
+
+        @Override
+        public void onError(final AsyncEvent asyncEvent) {
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent asyncEvent) {
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.eddy.admin.catalog.infrastructure.configuration.metrics;
+
+import com.eddy.admin.catalog.application.NullaryUseCase;
+import com.eddy.admin.catalog.application.UnitCase;
+import com.eddy.admin.catalog.application.UseCase;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.StatementCounter;
+import com.eddy.admin.catalog.infrastructure.configuration.jfr.UseCaseEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Either;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Objects;
+
+/**
+ * Proxies every use case bean so each {@code execute} call is timed and tagged with its outcome: success,
+ * a {@code Notification} returned as {@code Either.left}, or the exception thrown. The SQL statements it ran are
+ * recorded alongside, and the same call is also emitted as a {@link UseCaseEvent} for Flight Recorder.
+ */
+public class UseCaseInstrumentationPostProcessor implements BeanPostProcessor {
+
+    public static final String METRIC_NAME = "category.use_case";
+    public static final String STATEMENTS_METRIC_NAME = "category.use_case.statements";
+
+    private final ObjectProvider<MeterRegistry> registry;
+
+    public UseCaseInstrumentationPostProcessor(final ObjectProvider<MeterRegistry> registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof UseCase<?, ?> || bean instanceof UnitCase<?> || bean instanceof NullaryUseCase<?>)) {
+            return bean;
+        }
+
+        final var factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new Interceptor(useCaseName(bean.getClass())));
+        return factory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    // DefaultCreateCategoryUseCase -> CreateCategoryUseCase, the type the controllers depend on
+    private static String useCaseName(final Class<?> type) {
+        var current = type;
+        while (current.getSuperclass() != null
+                && current.getSuperclass() != UseCase.class
+                && current.getSuperclass() != UnitCase.class
+                && current.getSuperclass() != NullaryUseCase.class) {
+            current = current.getSuperclass();
+        }
+        return current.getSuperclass() == null ? type.getSimpleName() : current.getSimpleName();
+    }
+
+    private final class Interceptor implements MethodInterceptor {
+
+        private final String useCase;
+
+        private Interceptor(final String useCase) {
+            this.useCase = useCase;
+        }
+
+        @Override
+        public Object invoke(final MethodInvocation invocation) throws Throwable {
+            if (!"execute".equals(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+
+            final var meterRegistry = registry.getObject();
+            final var event = UseCaseEvent.start();
+            final var statements = StatementCounter.open();
+            final var sample = Timer.start(meterRegistry);
+            final var input = invocation.getArguments().length > 0 ? invocation.getArguments()[0] : null;
+            Object result = null;
+            var outcome = "success";
+            var exception = "none";
+            try {
+                result = invocation.proceed();
+                if (result instanceof Either<?, ?> either && either.isLeft()) {
+                    outcome = "notification";
+                }
+                return result;
+            } catch (final Throwable t) {
+                outcome = "exception";
+                exception = t.getClass().getSimpleName();
+                throw t;
+            } finally {
+                statements.close();
+                sample.stop(Timer.builder(METRIC_NAME)
+                        .description("Time spent executing each use case")
+                        .tag("use_case", useCase)
+                        .tag("outcome", outcome)
+                        .tag("exception", exception)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+                DistributionSummary.builder(STATEMENTS_METRIC_NAME)
+                        .description("SQL statements executed by each use case")
+                        .baseUnit("statements")
+                        .tag("use_case", useCase)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(statements.count());
+                event.finish(useCase, input, result, outcome);
+            }
+        }
+    }
+}
@@ -1,21 +1,73 @@
 package com.eddy.admin.catalog.infrastructure.configuration.usecases;
 
 import com.eddy.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.create.batch.DefaultBatchCreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.create.imports.DefaultImportCategoryUseCase;
 import com.eddy.admin.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.eddy.admin.catalog.application.category.delete.batch.DefaultBatchDeleteCategoryUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.export.DefaultExportCategoryUseCase;
 import com.eddy.admin.catalog.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.eddy.admin.catalog.application.category.retrieve.list.DefaultListCategoryUseCase;
 import com.eddy.admin.catalog.application.category.update.DefaultUpdateCategoryUseCase;
 import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.infrastructure.category.CachingCategoryGateway;
+import com.eddy.admin.catalog.infrastructure.category.CategoryMySQLGateway;
+import com.eddy.admin.catalog.infrastructure.category.ConcurrencyLimitingCategoryGateway;
+import com.eddy.admin.catalog.infrastructure.category.FlightRecorderCategoryGateway;
+import com.eddy.admin.catalog.infrastructure.category.MeteredCategoryGateway;
+import com.eddy.admin.catalog.infrastructure.category.ReplicaRoutingCategoryGateway;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DatabaseConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
 @Configuration
 public class CategoryUseCases {
 
+    private final CachingCategoryGateway cachingGateway;
     private final CategoryGateway gateway;
 
-    public CategoryUseCases(CategoryGateway gateway) {
-        this.gateway = gateway;
+    public CategoryUseCases(
+            final CategoryMySQLGateway gateway,
+            final MeterRegistry meterRegistry,
+            final DatabaseConcurrencyLimiter limiter,
+            @Value("${category.cache.maximum-size:10000}") final long cacheMaximumSize,
+            @Value("${category.cache.ttl:5m}") final Duration cacheTtl,
+            @Value("${category.cache.list.maximum-weight:32MB}") final DataSize listCacheMaximumWeight,
+            @Value("${category.cache.list.ttl:10s}") final Duration listCacheTtl,
+            @Value("${category.datasource.read-your-writes:1s}") final Duration readYourWrites,
+            @Value("${category.datasource.acquire-timeout:1s}") final Duration acquireTimeout,
+            @Value("${category.export.max-concurrency:2}") final int exportMaxConcurrency
+    ) {
+        this.cachingGateway = new CachingCategoryGateway(
+                new ConcurrencyLimitingCategoryGateway(
+                        new FlightRecorderCategoryGateway(gateway),
+                        limiter,
+                        new DatabaseConcurrencyLimiter(exportMaxConcurrency, acquireTimeout)
+                ),
+                cacheMaximumSize,
+                cacheTtl,
+                listCacheMaximumWeight.toBytes(),
+                listCacheTtl,
+                meterRegistry
+        );
+        this.gateway = new MeteredCategoryGateway(
+                new ReplicaRoutingCategoryGateway(this.cachingGateway, readYourWrites),
+                meterRegistry
+        );
+    }
+
+    // a bean only so the caches can be looked up and cleared; never injected in place of the MySQL gateway
+    @Bean(autowireCandidate = false)
+    public CachingCategoryGateway cachingCategoryGateway() {
+        return this.cachingGateway;
     }
 
     @Bean
@@ -23,11 +75,44 @@ public class CategoryUseCases {
         return new DefaultCreateCategoryUseCase(this.gateway);
     }
 
+    @Bean
+    public DefaultBatchCreateCategoryUseCase getDefaultBatchCreateCategoryUseCase() {
+        return new DefaultBatchCreateCategoryUseCase(this.gateway);
+    }
+
+    @Bean
+    public DefaultImportCategoryUseCase getDefaultImportCategoryUseCase(
+            @Value("${category.batch.size:500}") final int batchSize,
+            @Value("${category.import.queue-capacity:4}") final int queueCapacity,
+            @Value("${category.import.max-reported-errors:1000}") final int maxReportedErrors,
+            @Value("${category.import.hand-off-timeout:30s}") final Duration handOffTimeout,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) final Executor writerExecutor
+    ) {
+        return new DefaultImportCategoryUseCase(
+                this.gateway,
+                writerExecutor,
+                batchSize,
+                queueCapacity,
+                maxReportedErrors,
+                handOffTimeout
+        );
+    }
+
     @Bean
     public DefaultDeleteCategoryUseCase getDefaultDeleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(this.gateway);
     }
 
+    @Bean
+    public DefaultBatchDeleteCategoryUseCase getDefaultBatchDeleteCategoryUseCase() {
+        return new DefaultBatchDeleteCategoryUseCase(this.gateway);
+    }
+
+    @Bean
+    public DefaultExportCategoryUseCase getDefaultExportCategoryUseCase() {
+        return new DefaultExportCategoryUseCase(this.gateway);
+    }
+
     @Bean
     public DefaultGetCategoryByIdUseCase getDefaultGetCategoryByIdUseCase() {
         return new DefaultGetCategoryByIdUseCase(this.gateway);
@@ -0,0 +1,78 @@
+package com.eddy.admin.catalog.infrastructure.utils;
+
+import com.eddy.admin.catalog.domain.exceptions.DomainException;
+import com.eddy.admin.catalog.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * {@code total} is the exact count taken when a {@code count=exact} walk started, so later pages can report it
+ * without counting again; it is {@code null} for the other count modes.
+ */
+public record Cursor(
+        String sort,
+        String value,
+        String id,
+        Long total
+) {
+
+    public static final String INVALID_CURSOR = "Invalid 'after' cursor";
+
+    private static final String SEPARATOR = "\u0000";
+    private static final String VALUE_PREFIX = "=";
+
+    public static Cursor with(final String sort, final Object value, final String id, final Long total) {
+        return new Cursor(sort, Objects.isNull(value) ? null : String.valueOf(value), id, total);
+    }
+
+    public static Cursor decode(final String aToken, final String expectedSort) {
+        try {
+            final var payload = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            final var parts = payload.split(SEPARATOR, 4);
+
+            if (parts.length != 4 || !parts[0].equals(expectedSort) || parts[1].isBlank()) {
+                throw invalidCursor();
+            }
+
+            final var aTotal = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+            final var aValue = parts[3].startsWith(VALUE_PREFIX) ? parts[3].substring(VALUE_PREFIX.length()) : null;
+            return new Cursor(parts[0], aValue, parts[1], aTotal);
+        } catch (final IllegalArgumentException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        final var aValue = Objects.isNull(value) ? "" : VALUE_PREFIX + value;
+        final var aTotal = Objects.isNull(total) ? "" : String.valueOf(total);
+        final var payload = String.join(SEPARATOR, sort, id, aTotal, aValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Object valueAs(final Class<?> aType) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+
+        try {
+            if (Instant.class.equals(aType)) {
+                return Instant.parse(value);
+            }
+
+            if (Boolean.class.equals(aType) || boolean.class.equals(aType)) {
+                return Boolean.parseBoolean(value);
+            }
+        } catch (final RuntimeException ex) {
+            throw invalidCursor();
+        }
+
+        return value;
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error(INVALID_CURSOR));
+    }
+}
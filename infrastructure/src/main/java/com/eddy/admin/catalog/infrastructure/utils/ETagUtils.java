@@ -0,0 +1,50 @@
+package com.eddy.admin.catalog.infrastructure.utils;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class ETagUtils {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+
+    private ETagUtils() {
+    }
+
+    public static String of(final long version) {
+        return QUOTE + version + QUOTE;
+    }
+
+    // If-None-Match uses the weak comparison, so W/"3" still matches "3"
+    public static boolean noneMatch(final String ifNoneMatch, final long version) {
+        if (Objects.isNull(ifNoneMatch)) {
+            return true;
+        }
+
+        final var current = of(version);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                .noneMatch(tag -> ANY.equals(tag) || current.equals(tag));
+    }
+
+    public static boolean isAny(final String ifMatch) {
+        return ANY.equals(ifMatch.trim());
+    }
+
+    // If-Match uses the strong comparison: weak or malformed tags never match
+    public static Optional<Long> versionOf(final String ifMatch) {
+        final var tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith(QUOTE) || !tag.endsWith(QUOTE)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
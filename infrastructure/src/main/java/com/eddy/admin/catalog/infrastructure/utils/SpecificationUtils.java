@@ -1,10 +1,24 @@
 package com.eddy.admin.catalog.infrastructure.utils;
 
 import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.configuration.hibernate.MatchAgainstFunctionContributor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
 
 public final class SpecificationUtils {
 
+    private static final String ID = "id";
+
     private SpecificationUtils() {
     }
 
@@ -12,6 +26,76 @@ public final class SpecificationUtils {
         return (root, query1, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    public static Specification<CategoryJpaEntity> idIn(final Collection<String> ids) {
+        return (root, query1, cb) -> ids.isEmpty() ? cb.disjunction() : root.get(ID).in(ids);
+    }
+
+    public static Specification<CategoryJpaEntity> matchAgainst(final String booleanQuery) {
+        return (root, query1, cb) -> cb.greaterThan(relevance(root, cb, booleanQuery), 0d);
+    }
+
+    public static Specification<CategoryJpaEntity> orderByRelevance(final String booleanQuery, final Sort sort) {
+        return (root, query1, cb) -> {
+            if (!Long.class.equals(query1.getResultType())) {
+                final var orders = new ArrayList<Order>();
+                orders.add(cb.desc(relevance(root, cb, booleanQuery)));
+                orders.addAll(QueryUtils.toOrders(sort, root, cb));
+                query1.orderBy(orders);
+            }
+            return null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Specification<CategoryJpaEntity> after(
+            final String prop,
+            final Sort.Direction direction,
+            final Cursor cursor
+    ) {
+        return (root, query1, cb) -> {
+            final Expression<String> id = root.get(ID);
+            final var idAfter = direction.isAscending()
+                    ? cb.greaterThan(id, cursor.id())
+                    : cb.lessThan(id, cursor.id());
+
+            if (ID.equals(prop)) {
+                return idAfter;
+            }
+
+            final Expression<Comparable<Object>> key = root.get(prop);
+            final var value = (Comparable<Object>) cursor.valueAs(key.getJavaType());
+
+            // NULLs sort first in ascending order (and last in descending order) on MySQL and H2
+            if (Objects.isNull(value)) {
+                final var sameKey = cb.and(cb.isNull(key), idAfter);
+                return direction.isAscending() ? cb.or(sameKey, cb.isNotNull(key)) : sameKey;
+            }
+
+            final var keyAfter = direction.isAscending()
+                    ? cb.greaterThan(key, value)
+                    : cb.lessThan(key, value);
+            final var sameKey = cb.and(cb.equal(key, value), idAfter);
+
+            return direction.isAscending()
+                    ? cb.or(keyAfter, sameKey)
+                    : cb.or(keyAfter, sameKey, cb.isNull(key));
+        };
+    }
+
+    private static Expression<Double> relevance(
+            final Root<CategoryJpaEntity> root,
+            final CriteriaBuilder cb,
+            final String booleanQuery
+    ) {
+        return cb.function(
+                MatchAgainstFunctionContributor.MATCH_AGAINST,
+                Double.class,
+                root.get("name"),
+                root.get("description"),
+                ((HibernateCriteriaBuilder) cb).value(booleanQuery)
+        );
+    }
+
     private static String like(String term) {
         return "%" + term + "%";
     }
@@ -0,0 +1 @@
+ALTER TABLE category DROP COLUMN version;
\ No newline at end of file
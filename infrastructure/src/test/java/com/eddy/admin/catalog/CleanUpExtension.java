@@ -1,5 +1,7 @@
 package com.eddy.admin.catalog;
 
+import com.eddy.admin.catalog.infrastructure.category.CachingCategoryGateway;
+import com.eddy.admin.catalog.infrastructure.category.CategoryTotalCounter;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
@@ -11,11 +13,11 @@ public class CleanUpExtension implements BeforeEachCallback {
 
     @Override
     public void beforeEach(ExtensionContext extensionContext) {
-        final var repositories = SpringExtension.getApplicationContext(extensionContext)
-                .getBeansOfType(CrudRepository.class)
-                .values();
+        final var context = SpringExtension.getApplicationContext(extensionContext);
 
-        cleanUp(repositories);
+        cleanUp(context.getBeansOfType(CrudRepository.class).values());
+        context.getBeansOfType(CategoryTotalCounter.class).values().forEach(CategoryTotalCounter::invalidateAll);
+        context.getBeansOfType(CachingCategoryGateway.class).values().forEach(CachingCategoryGateway::invalidateAll);
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
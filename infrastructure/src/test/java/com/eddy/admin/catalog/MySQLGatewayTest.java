@@ -1,10 +1,11 @@
 package com.eddy.admin.catalog;
 
-
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.StatementCountingDataSourcePostProcessor;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.lang.annotation.*;
@@ -17,6 +18,7 @@ import java.lang.annotation.*;
 @ComponentScan(includeFilters = {
         @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".[MySQLGateway]")
 })
+@Import(StatementCountingDataSourcePostProcessor.class)
 @ExtendWith(CleanUpExtension.class)
 public @interface MySQLGatewayTest {
 }
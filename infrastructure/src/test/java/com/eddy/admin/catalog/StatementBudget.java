@@ -0,0 +1,34 @@
+package com.eddy.admin.catalog;
+
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.StatementCounter;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.function.Supplier;
+
+/**
+ * Fails when an action executes more SQL statements than it is allowed to. Works in any test whose context wraps the
+ * data source in a {@code StatementCountingDataSource}, which both {@link IntegrationTest} and {@link MySQLGatewayTest} do.
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    public static <T> T assertAtMost(final long budget, final Supplier<T> action) {
+        try (final var statements = StatementCounter.open()) {
+            final var result = action.get();
+            Assertions.assertTrue(
+                    statements.count() <= budget,
+                    () -> "Expected at most %d SQL statements but %d were executed".formatted(budget, statements.count())
+            );
+            return result;
+        }
+    }
+
+    public static void assertAtMost(final long budget, final Runnable action) {
+        assertAtMost(budget, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
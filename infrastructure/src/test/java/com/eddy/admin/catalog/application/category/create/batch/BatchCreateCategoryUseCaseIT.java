@@ -0,0 +1,50 @@
+package com.eddy.admin.catalog.application.category.create.batch;
+
+import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.stream.IntStream;
+
+@IntegrationTest
+public class BatchCreateCategoryUseCaseIT {
+
+    @Autowired
+    private BatchCreateCategoryUseCase useCase;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Test
+    void shouldInsertEveryValidCategoryWhenExecuteIsCalled() {
+        final var commands = IntStream.range(0, 1200)
+                .mapToObj(i -> CreateCategoryCommand.with(i == 7 ? null : "Category " + i, "Description " + i, i % 2 == 0))
+                .toList();
+
+        Assertions.assertEquals(0, repository.count());
+
+        final var actualResults = useCase.execute(commands);
+
+        Assertions.assertEquals(1200, actualResults.size());
+        Assertions.assertTrue(actualResults.get(7).isLeft());
+        Assertions.assertEquals(1199, repository.count());
+
+        final var actualOutput = actualResults.get(3).get();
+        final var actualCategory = categoryGateway.getById(CategoryID.from(actualOutput.id())).get();
+
+        Assertions.assertEquals("Category 3", actualCategory.getName());
+        Assertions.assertEquals("Description 3", actualCategory.getDescription());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertNotNull(actualCategory.getCreatedAt());
+        Assertions.assertEquals(actualCategory.getCreatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertNotNull(actualCategory.getDeletedAt());
+    }
+}
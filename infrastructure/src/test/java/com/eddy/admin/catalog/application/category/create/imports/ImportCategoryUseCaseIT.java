@@ -0,0 +1,40 @@
+package com.eddy.admin.catalog.application.category.create.imports;
+
+import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.stream.LongStream;
+
+@IntegrationTest
+public class ImportCategoryUseCaseIT {
+
+    @Autowired
+    private ImportCategoryUseCase useCase;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Test
+    void shouldInsertEveryValidLineWhenExecuteIsCalled() {
+        final var lines = LongStream.rangeClosed(1, 1200)
+                .mapToObj(number -> ImportCategoryLine.valid(
+                        number,
+                        CreateCategoryCommand.with(number == 7 ? "ab" : "Category " + number, null, true)
+                ))
+                .iterator();
+
+        Assertions.assertEquals(0, repository.count());
+
+        final var actualOutput = useCase.execute(lines);
+
+        Assertions.assertEquals(1200, actualOutput.lines());
+        Assertions.assertEquals(1199, actualOutput.imported());
+        Assertions.assertEquals(1, actualOutput.failed());
+        Assertions.assertEquals(7, actualOutput.errors().get(0).line());
+        Assertions.assertEquals(1199, repository.count());
+    }
+}
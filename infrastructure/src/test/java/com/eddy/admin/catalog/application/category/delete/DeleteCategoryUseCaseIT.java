@@ -31,4 +31,14 @@ public class DeleteCategoryUseCaseIT {
 
         Assertions.assertEquals(0, repository.count());
     }
+
+    @Test
+    void shouldNotThrowWhenCategoryDoesNotExist() {
+
+        repository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Film", null, true)));
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute("123"));
+
+        Assertions.assertEquals(1, repository.count());
+    }
 }
@@ -0,0 +1,67 @@
+package com.eddy.admin.catalog.application.category.delete.batch;
+
+import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.eddy.admin.catalog.StatementBudget.assertAtMost;
+
+@IntegrationTest
+public class BatchDeleteCategoryUseCaseIT {
+
+    @Autowired
+    private BatchDeleteCategoryUseCase useCase;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Test
+    void shouldDeleteOnlyTheGivenCategoriesAndIgnoreUnknownIds() {
+        final var film = Category.newCategory("Film", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentary = Category.newCategory("Documentary", null, true);
+
+        repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(film),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentary)));
+
+        Assertions.assertEquals(3, repository.count());
+
+        useCase.execute(List.of(film.getId().getValue(), documentary.getId().getValue(), "unknown"));
+
+        Assertions.assertEquals(1, repository.count());
+        Assertions.assertTrue(repository.existsById(series.getId().getValue()));
+    }
+
+    @Test
+    void shouldDeleteInBatchesWhenTheIdsExceedTheBatchSize() {
+        final var categories = IntStream.range(0, 1_100)
+                .mapToObj(i -> CategoryJpaEntity.from(Category.newCategory("Category " + i, null, true)))
+                .toList();
+        repository.insertAll(categories);
+
+        final var ids = Stream.concat(categories.stream().map(CategoryJpaEntity::getId), Stream.of("unknown")).toList();
+
+        assertAtMost(3, () -> useCase.execute(ids));
+
+        Assertions.assertEquals(0, repository.count());
+    }
+
+    @Test
+    void shouldDoNothingWhenIdsAreEmpty() {
+        repository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Film", null, true)));
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(List.of()));
+
+        Assertions.assertEquals(1, repository.count());
+    }
+}
@@ -0,0 +1,58 @@
+package com.eddy.admin.catalog.application.category.retrieve.export;
+
+import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+@IntegrationTest
+public class ExportCategoryUseCaseIT {
+
+    @Autowired
+    private ExportCategoryUseCase useCase;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Test
+    void shouldExportEveryCategoryInIdOrderWhenCallExecute() {
+        final var categories = IntStream.range(0, 25)
+                .mapToObj(index -> Category.newCategory("Category " + index, null, index % 2 == 0))
+                .toList();
+        final var aDeletedCategory = categories.get(3).deactivate();
+
+        repository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var actualOutputs = new ArrayList<CategoryListOutput>();
+        useCase.execute(actualOutputs::add);
+
+        Assertions.assertEquals(
+                categories.stream().map(category -> category.getId().getValue()).sorted().toList(),
+                actualOutputs.stream().map(output -> output.id().getValue()).toList()
+        );
+
+        final var actualDeleted = actualOutputs.stream()
+                .filter(output -> output.id().equals(aDeletedCategory.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        Assertions.assertEquals(aDeletedCategory.getName(), actualDeleted.name());
+        Assertions.assertFalse(actualDeleted.active());
+        Assertions.assertEquals(
+                aDeletedCategory.getCreatedAt().truncatedTo(ChronoUnit.MILLIS),
+                actualDeleted.createdAt().truncatedTo(ChronoUnit.MILLIS)
+        );
+        Assertions.assertEquals(
+                aDeletedCategory.getDeletedAt().truncatedTo(ChronoUnit.MILLIS),
+                actualDeleted.deletedAt().truncatedTo(ChronoUnit.MILLIS)
+        );
+    }
+}
@@ -3,8 +3,12 @@ package com.eddy.admin.catalog.application.category.retrieve.list;
 import com.eddy.admin.catalog.IntegrationTest;
 import com.eddy.admin.catalog.domain.category.Category;
 import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.exceptions.DomainException;
+import com.eddy.admin.catalog.domain.pagination.CountMode;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
 import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.eddy.admin.catalog.infrastructure.utils.Cursor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,9 +16,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import static com.eddy.admin.catalog.StatementBudget.assertAtMost;
+
 @IntegrationTest
 public class ListCategoryUseCaseIT {
 
@@ -72,4 +80,137 @@ public class ListCategoryUseCaseIT {
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedCategoryName, actualResult.items().get(0).name());
     }
+
+    @Test
+    void shouldWalkAllCategoriesWhenFollowingTheNextCursor() {
+        final var expectedNames = List.of(
+                "Amazon Originals", "Documentary", "Films", "Kids", "Netflix Originals", "Series", "Sports");
+        final var expectedPerPage = 3;
+
+        final var firstPage = useCase.execute(new CategorySearchQuery(0, expectedPerPage, "", "name", "asc"));
+        final var actualNames = new ArrayList<>(firstPage.items().stream().map(CategoryListOutput::name).toList());
+
+        var nextCursor = firstPage.nextCursor();
+        while (nextCursor != null) {
+            final var aQuery = new CategorySearchQuery(0, expectedPerPage, "", "name", "asc", nextCursor);
+            final var actualResult = useCase.execute(aQuery);
+
+            Assertions.assertEquals(expectedNames.size(), actualResult.total());
+            actualResult.items().forEach(it -> actualNames.add(it.name()));
+            nextCursor = actualResult.nextCursor();
+        }
+
+        Assertions.assertEquals(expectedNames, actualNames);
+    }
+
+    @Test
+    void shouldCarryTheExactTotalWithoutCountingAgainWhenFollowingACursorWithExactCount() {
+        final var firstPage = useCase.execute(new CategorySearchQuery(0, 2, "", "name", "asc"));
+        final var secondPage = useCase.execute(new CategorySearchQuery(0, 2, "", "name", "asc", firstPage.nextCursor()));
+
+        repository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Zoo", null, true)));
+
+        final var thirdPage = assertAtMost(1, () ->
+                useCase.execute(new CategorySearchQuery(0, 2, "", "name", "asc", secondPage.nextCursor())));
+
+        Assertions.assertEquals(7, secondPage.total());
+        Assertions.assertEquals(7, thirdPage.total());
+        Assertions.assertEquals(2, thirdPage.items().size());
+    }
+
+    @Test
+    void shouldWalkCategoriesDescendingWhenFollowingTheNextCursorSortedByCreatedAt() {
+        final var expectedNames = List.of(
+                "Series", "Kids", "Sports", "Documentary", "Amazon Originals", "Netflix Originals", "Films");
+        final var expectedPerPage = 2;
+
+        final var firstPage = useCase.execute(new CategorySearchQuery(0, expectedPerPage, "", "created_at", "desc"));
+        final var actualNames = new ArrayList<>(firstPage.items().stream().map(CategoryListOutput::name).toList());
+
+        var nextCursor = firstPage.nextCursor();
+        while (nextCursor != null) {
+            final var aQuery = new CategorySearchQuery(0, expectedPerPage, "", "created_at", "desc", nextCursor);
+            final var actualResult = useCase.execute(aQuery);
+
+            actualResult.items().forEach(it -> actualNames.add(it.name()));
+            nextCursor = actualResult.nextCursor();
+        }
+
+        Assertions.assertEquals(expectedNames, actualNames);
+    }
+
+    @Test
+    void shouldThrowDomainExceptionWhenSortingByAnUnindexedColumn() {
+        final var expectedErrorMessage = "Invalid sort 'description', expected one of: name, created_at, updated_at";
+        final var aQuery = new CategorySearchQuery(0, 10, "", "description", "asc");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aQuery));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void shouldWalkAllCategoriesWhenSortingByAColumnOutsideTheListItem() {
+        final var expectedPerPage = 3;
+
+        final var firstPage = useCase.execute(new CategorySearchQuery(0, expectedPerPage, "", "updatedAt", "asc"));
+        final var actualNames = new ArrayList<>(firstPage.items().stream().map(CategoryListOutput::name).toList());
+
+        var nextCursor = firstPage.nextCursor();
+        while (nextCursor != null) {
+            final var aQuery = new CategorySearchQuery(0, expectedPerPage, "", "updatedAt", "asc", nextCursor);
+            final var actualResult = useCase.execute(aQuery);
+
+            actualResult.items().forEach(it -> actualNames.add(it.name()));
+            nextCursor = actualResult.nextCursor();
+        }
+
+        Assertions.assertEquals(7, actualNames.size());
+        Assertions.assertEquals(7, Set.copyOf(actualNames).size());
+    }
+
+    @Test
+    void shouldThrowDomainExceptionWhenCursorIsInvalid() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc", "not-a-cursor");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aQuery));
+
+        Assertions.assertEquals(Cursor.INVALID_CURSOR, actualException.getMessage());
+    }
+
+    @Test
+    void shouldReturnHasNextWithoutTotalWhenCountModeIsNone() {
+        final var aQuery = new CategorySearchQuery(1, 3, "", "name", "asc", null, CountMode.NONE);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertNotNull(actualResult.nextCursor());
+        Assertions.assertEquals(List.of("Kids", "Netflix Originals", "Series"),
+                actualResult.items().stream().map(CategoryListOutput::name).toList());
+
+        final var lastPage = useCase.execute(new CategorySearchQuery(2, 3, "", "name", "asc", null, CountMode.NONE));
+
+        Assertions.assertFalse(lastPage.hasNext());
+        Assertions.assertNull(lastPage.nextCursor());
+        Assertions.assertEquals(1, lastPage.items().size());
+    }
+
+    @Test
+    void shouldReturnCachedTotalWhenCountModeIsEstimated() {
+        final var aQuery = new CategorySearchQuery(0, 2, "originals", "name", "asc", null, CountMode.ESTIMATED);
+
+        Assertions.assertEquals(2, useCase.execute(aQuery).total());
+
+        repository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Disney Originals", null, true)));
+
+        // another sort order misses the cached page but shares the cached total of the same terms
+        final var actualResult = useCase.execute(
+                new CategorySearchQuery(0, 2, "originals", "name", "desc", null, CountMode.ESTIMATED));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(2, actualResult.items().size());
+    }
 }
@@ -1,14 +1,23 @@
 package com.eddy.admin.catalog.application.category.update;
 
 import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.exceptions.ConflictException;
+import com.eddy.admin.catalog.domain.exceptions.NotFoundException;
+import com.eddy.admin.catalog.infrastructure.category.CategoryMySQLGateway;
 import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.mockito.Mockito.doReturn;
 
 @IntegrationTest
 public class UpdateCategoryUseCaseIT {
@@ -16,9 +25,15 @@ public class UpdateCategoryUseCaseIT {
     @Autowired
     private UpdateCategoryUseCase useCase;
 
+    @Autowired
+    private GetCategoryByIdUseCase getUseCase;
+
     @Autowired
     private CategoryRepository repository;
 
+    @SpyBean
+    private CategoryMySQLGateway gateway;
+
     @Test
     void shouldUpdateACategorySuccessfullyWhenCallExecute() {
 
@@ -52,4 +67,92 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertTrue(aCategory.getUpdatedAt().isBefore(actualCategory.getUpdatedAt()));
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
+
+    @Test
+    void shouldUpdateWithASingleStatementWhenVersionMatches() {
+        final var aCategory = Category.newCategory("Film", null, false);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue(), "Movies", "Description", false, 0L);
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(1L, actualOutput.version());
+
+        final var actualCategory = repository.findById(aCategory.getId().getValue()).get();
+
+        Assertions.assertEquals("Movies", actualCategory.getName());
+        Assertions.assertEquals("Description", actualCategory.getDescription());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertEquals(1L, actualCategory.getVersion());
+        Assertions.assertEquals(
+                aCategory.getDeletedAt().truncatedTo(ChronoUnit.MILLIS),
+                actualCategory.getDeletedAt().truncatedTo(ChronoUnit.MILLIS));
+        Assertions.assertTrue(aCategory.getUpdatedAt().isBefore(actualCategory.getUpdatedAt()));
+    }
+
+    @Test
+    void shouldThrowConflictExceptionWhenVersionIsStale() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var anId = aCategory.getId().getValue();
+        useCase.execute(UpdateCategoryCommand.with(anId, "Movies", null, true, 0L));
+
+        final var staleCommand = UpdateCategoryCommand.with(anId, "Series", null, true, 0L);
+        Assertions.assertThrows(ConflictException.class, () -> useCase.execute(staleCommand));
+
+        Assertions.assertEquals("Movies", repository.findById(anId).get().getName());
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenVersionedUpdateTargetsAnUnknownId() {
+        final var aCommand = UpdateCategoryCommand.with(CategoryID.unique().getValue(), "Movies", null, true, 0L);
+
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+    }
+
+    @Test
+    void shouldIncrementVersionWhenUpdatingWithoutAVersion() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var actualOutput = useCase.execute(
+                UpdateCategoryCommand.with(aCategory.getId().getValue(), "Movies", null, true)).get();
+
+        Assertions.assertEquals(1L, actualOutput.version());
+        Assertions.assertEquals(1L, repository.findById(aCategory.getId().getValue()).get().getVersion());
+    }
+
+    @Test
+    void shouldThrowConflictExceptionWhenTheCategoryChangesBetweenReadAndWriteWithoutAVersion() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var anId = aCategory.getId().getValue();
+        final var staleCopy = aCategory.clone();
+        useCase.execute(UpdateCategoryCommand.with(anId, "Movies", null, true));
+
+        doReturn(Optional.of(staleCopy)).when(gateway).getLatestById(aCategory.getId());
+
+        final var aCommand = UpdateCategoryCommand.with(anId, "Series", null, true);
+        Assertions.assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals("Movies", repository.findById(anId).get().getName());
+    }
+
+    @Test
+    void shouldUpdateFromTheLatestRowWhenACachedCopyIsStaleWithoutAVersion() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var anId = aCategory.getId().getValue();
+        Assertions.assertEquals("Film", getUseCase.execute(anId).name());
+
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory.clone().update("Movies", null, true)));
+
+        final var actualOutput = useCase.execute(UpdateCategoryCommand.with(anId, "Series", null, true)).get();
+
+        Assertions.assertEquals(2L, actualOutput.version());
+        Assertions.assertEquals("Series", repository.findById(anId).get().getName());
+    }
 }
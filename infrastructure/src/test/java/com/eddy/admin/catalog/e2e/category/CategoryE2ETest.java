@@ -20,6 +20,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @E2ETest
@@ -85,7 +87,11 @@ public class CategoryE2ETest {
     private CategoryResponse retrieveACategory(final String anId) throws Exception {
         final var aRequest = MockMvcRequestBuilders.get("/categories/" + anId);
 
-        final var categoryResponseJson = mockMvc.perform(aRequest)
+        final var asyncResult = mockMvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var categoryResponseJson = mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse().getContentAsString();
@@ -0,0 +1,124 @@
+package com.eddy.admin.catalog.e2e.category;
+
+import com.eddy.admin.catalog.E2ETest;
+import com.eddy.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
+import com.eddy.admin.catalog.infrastructure.configuration.json.Json;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// the fulltext strategy only runs on MySQL: word-prefix matching, InnoDB's indexing limits and relevance order
+@E2ETest
+@Testcontainers
+public class CategorySearchE2ETest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withUsername("root")
+            .withPassword("123456")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Test
+    public void theMigrationShouldCreateAFullTextIndexOnNameAndDescription() {
+        final var actualColumns = jdbcTemplate.queryForList("""
+                SELECT column_name FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'category'
+                  AND index_name = 'idx_category_name_description' AND index_type = 'FULLTEXT'
+                ORDER BY seq_in_index
+                """, String.class);
+
+        Assertions.assertEquals(List.of("name", "description"), actualColumns);
+    }
+
+    @Test
+    public void shouldMatchWordPrefixesButNotSubstringsWhenSearching() throws Exception {
+        givenCategories("Netflix Originals", "Amazon Originals", "Documentary", "Sports");
+
+        searchCategories("origin", contains("Amazon Originals", "Netflix Originals"));
+        searchCategories("ORIGINALS netf", contains("Netflix Originals"));
+        searchCategories("riginals", empty());
+    }
+
+    @Test
+    public void shouldIgnoreBooleanOperatorsWhenTheSearchContainsThem() throws Exception {
+        givenCategories("Netflix Originals", "Amazon Originals", "Documentary", "Sports");
+
+        searchCategories("+netflix -originals", contains("Netflix Originals"));
+        searchCategories("\"amazon\" (orig*)", contains("Amazon Originals"));
+        searchCategories("+-~*", empty());
+    }
+
+    @Test
+    public void shouldOrderByRelevanceBeforeTheRequestedSortWhenSearching() throws Exception {
+        givenACategory("Animation", "Cartoons for kids");
+        givenACategory("Kids", "Kids shows and kids movies");
+        givenCategories("Documentary", "Sports", "Series");
+
+        searchCategories("kids", contains("Kids", "Animation"));
+    }
+
+    @Test
+    public void shouldSkipWordsInnoDbDoesNotIndexWhenSearching() throws Exception {
+        givenCategories("TV Shows", "The Office", "Documentary", "Sports");
+
+        searchCategories("the office", contains("The Office"));
+        searchCategories("tv", contains("TV Shows"));
+        searchCategories("the", contains("The Office"));
+    }
+
+    private void givenCategories(final String... names) throws Exception {
+        for (final var aName : names) {
+            givenACategory(aName, null);
+        }
+    }
+
+    private void givenACategory(final String aName, final String aDescription) throws Exception {
+        final var aRequest = MockMvcRequestBuilders.post("/categories")
+                .contentType("application/json")
+                .content(Json.writeValueAsString(new CreateCategoryRequest(aName, aDescription, true)));
+
+        mockMvc.perform(aRequest).andExpect(status().isCreated());
+    }
+
+    private void searchCategories(final String terms, final Matcher<? super List<String>> expectedNames) throws Exception {
+        final var aRequest = MockMvcRequestBuilders.get("/categories").param("search", terms);
+
+        final var asyncResult = mockMvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", expectedNames));
+    }
+}
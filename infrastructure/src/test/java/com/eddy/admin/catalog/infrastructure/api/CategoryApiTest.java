@@ -3,7 +3,15 @@ package com.eddy.admin.catalog.infrastructure.api;
 import com.eddy.admin.catalog.ControllerTest;
 import com.eddy.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.eddy.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.application.category.create.batch.BatchCreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.create.imports.ImportCategoryError;
+import com.eddy.admin.catalog.application.category.create.imports.ImportCategoryLine;
+import com.eddy.admin.catalog.application.category.create.imports.ImportCategoryOutput;
+import com.eddy.admin.catalog.application.category.create.imports.ImportCategoryUseCase;
 import com.eddy.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.eddy.admin.catalog.application.category.delete.batch.BatchDeleteCategoryUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.export.ExportCategoryUseCase;
 import com.eddy.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.eddy.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
@@ -12,8 +20,10 @@ import com.eddy.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.eddy.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.eddy.admin.catalog.domain.category.Category;
 import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.exceptions.ConflictException;
 import com.eddy.admin.catalog.domain.exceptions.DomainException;
 import com.eddy.admin.catalog.domain.exceptions.NotFoundException;
+import com.eddy.admin.catalog.domain.pagination.CountMode;
 import com.eddy.admin.catalog.domain.pagination.Pagination;
 import com.eddy.admin.catalog.domain.validation.Error;
 import com.eddy.admin.catalog.domain.validation.handler.Notification;
@@ -21,7 +31,10 @@ import com.eddy.admin.catalog.infrastructure.category.models.CreateCategoryReque
 import com.eddy.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.API;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -29,14 +42,20 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static com.eddy.admin.catalog.domain.category.CategoryValidator.NAME_SHOULD_NOT_BE_NULL_OR_BLANK;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -64,6 +83,18 @@ public class CategoryApiTest {
     @MockBean
     private DefaultListCategoryUseCase listCategoryUseCase;
 
+    @MockBean
+    private BatchCreateCategoryUseCase batchCreateCategoryUseCase;
+
+    @MockBean
+    private BatchDeleteCategoryUseCase batchDeleteCategoryUseCase;
+
+    @MockBean
+    private ExportCategoryUseCase exportCategoryUseCase;
+
+    @MockBean
+    private ImportCategoryUseCase importCategoryUseCase;
+
     @Test
     void shouldCreateACategorySuccessfullyWhenRequestByPostMethod() throws Exception {
         final var expectedName = "Movie";
@@ -93,6 +124,62 @@ public class CategoryApiTest {
         ));
     }
 
+    @Test
+    void shouldCreateCategoriesInBatchWhenRequestByPostMethod() throws Exception {
+        final var aInput = List.of(
+                new CreateCategoryRequest("Movies", "Best Movie", true),
+                new CreateCategoryRequest("Series", null, false)
+        );
+
+        Mockito.when(batchCreateCategoryUseCase.execute(any()))
+                .thenReturn(List.of(
+                        API.Right(CreateCategoryOutput.from("123")),
+                        API.Right(CreateCategoryOutput.from("456"))));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].index", equalTo(0)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[0].errors").doesNotExist())
+                .andExpect(jsonPath("$[1].id", equalTo("456")));
+
+        verify(batchCreateCategoryUseCase, times(1)).execute(argThat(cmds -> cmds.size() == 2
+                && Objects.equals("Movies", cmds.get(0).name())
+                && Objects.equals(false, cmds.get(1).isActive())
+        ));
+    }
+
+    @Test
+    void shouldReturnMultiStatusWhenSomeBatchItemsAreInvalid() throws Exception {
+        final var aInput = List.of(
+                new CreateCategoryRequest("Movies", "Best Movie", true),
+                new CreateCategoryRequest(null, null, true)
+        );
+
+        Mockito.when(batchCreateCategoryUseCase.execute(any()))
+                .thenReturn(List.of(
+                        API.Right(CreateCategoryOutput.from("123")),
+                        API.Left(Notification.create(new Error(NAME_SHOULD_NOT_BE_NULL_OR_BLANK)))));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[1].index", equalTo(1)))
+                .andExpect(jsonPath("$[1].id").doesNotExist())
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(NAME_SHOULD_NOT_BE_NULL_OR_BLANK)));
+    }
+
     @Test
     void shouldReturnNotificationWhenGetAnInvalidInput() throws Exception {
         final String expectedName = null;
@@ -166,7 +253,13 @@ public class CategoryApiTest {
 
         final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId);
 
-        final var response = this.mvc.perform(request)
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Assertions.assertEquals(Duration.ofSeconds(30).toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout());
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult))
                 .andDo(print());
 
         response.andExpect(status().isOk())
@@ -192,7 +285,11 @@ public class CategoryApiTest {
 
         final var request = MockMvcRequestBuilders.get("/categories/{id}", invalidId);
 
-        final var response = this.mvc.perform(request)
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult))
                 .andDo(print());
 
         response.andExpect(status().isNotFound())
@@ -307,6 +404,8 @@ public class CategoryApiTest {
         final var expectedTerms = "movies";
         final var expectedSort = "description";
         final var expectedDirection = "desc";
+        final var expectedAfter = "cursor";
+        final var expectedCount = CountMode.ESTIMATED;
         final var expectedItemsCount = 1;
         final var expectedTotal = 1;
 
@@ -322,16 +421,23 @@ public class CategoryApiTest {
                 .queryParam("sort", expectedSort)
                 .queryParam("dir", expectedDirection)
                 .queryParam("search", expectedTerms)
+                .queryParam("after", expectedAfter)
+                .queryParam("count", "estimated")
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON);
 
-        final var response = this.mvc.perform(request)
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult))
                 .andDo(print());
 
         response.andExpect(status().isOk())
                 .andExpect(jsonPath("$.current_page", equalTo(expectedPage)))
                 .andExpect(jsonPath("$.per_page", equalTo(expectedPerPage)))
                 .andExpect(jsonPath("$.total", equalTo(expectedTotal)))
+                .andExpect(jsonPath("$.has_next", equalTo(false)))
                 .andExpect(jsonPath("$.items", hasSize(expectedItemsCount)))
                 .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())))
                 .andExpect(jsonPath("$.items[0].name", equalTo(aCategory.getName())))
@@ -346,6 +452,275 @@ public class CategoryApiTest {
                         && Objects.equals(expectedDirection, query.direction())
                         && Objects.equals(expectedSort, query.sort())
                         && Objects.equals(expectedTerms, query.terms())
+                        && Objects.equals(expectedAfter, query.after())
+                        && Objects.equals(expectedCount, query.count())
         ));
     }
+
+    @Test
+    void shouldDeleteCategoriesInBatchWhenRequestByDeleteMethod() throws Exception {
+        final var expectedIds = List.of("123", "456");
+
+        doNothing().when(batchDeleteCategoryUseCase).execute(any());
+
+        final var request = MockMvcRequestBuilders.delete("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(expectedIds));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(batchDeleteCategoryUseCase, times(1)).execute(eq(expectedIds));
+    }
+
+    @Test
+    void shouldReturnConflictWhenUpdatingAStaleVersion() throws Exception {
+        final var expectedId = "123";
+        final var expectedVersion = 2L;
+        final var expectedErrorMessage = "Category ID 123 is no longer at version 2.";
+
+        final var aInput = new UpdateCategoryRequest("Movie", null, true, expectedVersion);
+
+        Mockito.when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, CategoryID.from(expectedId), expectedVersion));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd -> Objects.equals(expectedVersion, cmd.version())));
+    }
+
+    @Test
+    void shouldReturnAnETagWhenGetByAValidId() throws Exception {
+        final var aCategory = Category.newCategory("Movie", "Best Movie", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(any())).thenReturn(CategoryOutput.from(aCategory));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId);
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version", equalTo(0)));
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenIfNoneMatchIsTheCurrentVersion() throws Exception {
+        final var aCategory = Category.newCategory("Movie", "Best Movie", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(any())).thenReturn(CategoryOutput.from(aCategory));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .header("If-None-Match", "W/\"0\"");
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldUseTheIfMatchVersionWhenUpdatingACategory() throws Exception {
+        final var expectedId = "123";
+        final var expectedVersion = 2L;
+
+        final var aInput = new UpdateCategoryRequest("Movie", null, true);
+
+        Mockito.when(updateCategoryUseCase.execute(any()))
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId, expectedVersion + 1)));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd -> Objects.equals(expectedVersion, cmd.version())));
+    }
+
+    @Test
+    void shouldReturnPreconditionFailedWhenIfMatchIsAStaleVersion() throws Exception {
+        final var expectedId = "123";
+        final var expectedVersion = 2L;
+
+        final var aInput = new UpdateCategoryRequest("Movie", null, true);
+
+        Mockito.when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, CategoryID.from(expectedId), expectedVersion));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"2\"", "*"})
+    void shouldReturnPreconditionFailedWhenIfMatchTargetsAMissingCategory(final String ifMatch) throws Exception {
+        final var expectedId = "123";
+
+        final var aInput = new UpdateCategoryRequest("Movie", null, true);
+
+        Mockito.when(updateCategoryUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(Category.class, CategoryID.from(expectedId)));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .header("If-Match", ifMatch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldReturnPreconditionFailedWithoutUpdatingWhenIfMatchIsNotAVersion() throws Exception {
+        final var aInput = new UpdateCategoryRequest("Movie", null, true);
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", "123")
+                .header("If-Match", "W/\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed());
+
+        verify(updateCategoryUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldStreamCategoriesAsNdjsonWhenExporting() throws Exception {
+        final var aMovie = Category.newCategory("Movies", null, true);
+        final var aSerie = Category.newCategory("Series", "Most watched", false);
+
+        final var exportThread = new AtomicReference<String>();
+
+        doAnswer(invocation -> {
+            exportThread.set(Thread.currentThread().getName());
+            final Consumer<CategoryListOutput> consumer = invocation.getArgument(0);
+            consumer.accept(CategoryListOutput.from(aMovie));
+            consumer.accept(CategoryListOutput.from(aSerie));
+            return null;
+        }).when(exportCategoryUseCase).execute(any());
+
+        final var request = MockMvcRequestBuilders.get("/categories/export");
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Assertions.assertEquals(Duration.ofMinutes(30).toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout());
+
+        final var lines = this.mvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+                .split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(aMovie.getId().getValue(), this.mapper.readTree(lines[0]).get("id").asText());
+        Assertions.assertEquals("Most watched", this.mapper.readTree(lines[1]).get("description").asText());
+        Assertions.assertFalse(this.mapper.readTree(lines[1]).get("is_active").asBoolean());
+        Assertions.assertTrue(exportThread.get().startsWith("export-"), exportThread.get());
+    }
+
+    @Test
+    void shouldHandEachNdjsonLineToTheImportWhenRequestByPostMethod() throws Exception {
+        final var body = """
+                {"name": "Movies", "description": "Most watched", "is_active": true}
+
+                {"name": "Series", "is_active": false}
+                """;
+
+        final var actualLines = new ArrayList<ImportCategoryLine>();
+
+        Mockito.when(importCategoryUseCase.execute(any())).thenAnswer(invocation -> {
+            final Iterator<ImportCategoryLine> lines = invocation.getArgument(0);
+            lines.forEachRemaining(actualLines::add);
+            return new ImportCategoryOutput(2, 2, 0, List.of());
+        });
+
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.lines", equalTo(2)))
+                .andExpect(jsonPath("$.imported", equalTo(2)))
+                .andExpect(jsonPath("$.failed", equalTo(0)));
+
+        Assertions.assertEquals(List.of(1L, 3L), actualLines.stream().map(ImportCategoryLine::number).toList());
+        Assertions.assertEquals(
+                CreateCategoryCommand.with("Series", null, false),
+                actualLines.get(1).command().get()
+        );
+    }
+
+    @Test
+    void shouldReportMalformedLinesWhenImporting() throws Exception {
+        final var body = """
+                {"name": "Movies"}
+                {"name": "Series
+                """;
+
+        final var actualLines = new ArrayList<ImportCategoryLine>();
+
+        Mockito.when(importCategoryUseCase.execute(any())).thenAnswer(invocation -> {
+            final Iterator<ImportCategoryLine> lines = invocation.getArgument(0);
+            lines.forEachRemaining(actualLines::add);
+            return new ImportCategoryOutput(2, 1, 1, List.of(
+                    new ImportCategoryError(2, actualLines.get(1).command().getLeft().getErrors())
+            ));
+        });
+
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.failed", equalTo(1)))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].line", equalTo(2)))
+                .andExpect(jsonPath("$.errors[0].errors[0].message", notNullValue()));
+
+        Assertions.assertTrue(actualLines.get(0).command().isRight());
+        Assertions.assertTrue(actualLines.get(1).command().isLeft());
+    }
 }
@@ -0,0 +1,62 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.eddy.admin.catalog.application.category.retrieve.list.ListCategoryUseCase;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static com.eddy.admin.catalog.StatementBudget.assertAtMost;
+
+@IntegrationTest
+public class CachingCategoryGatewayIT {
+
+    @Autowired
+    private CreateCategoryUseCase createUseCase;
+
+    @Autowired
+    private ListCategoryUseCase listUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldServeTheListFromTheCacheUntilAWriteGoesThroughTheGateway() {
+        final var aQuery = new CategorySearchQuery(0, 10, "originals", "name", "asc");
+        createUseCase.execute(CreateCategoryCommand.with("Netflix Originals", null, true)).get();
+
+        Assertions.assertEquals(List.of("Netflix Originals"), names(listUseCase.execute(aQuery).items()));
+
+        final var hitsBefore = listHits();
+        final var cachedPage = assertAtMost(0, () -> listUseCase.execute(aQuery));
+
+        Assertions.assertEquals(List.of("Netflix Originals"), names(cachedPage.items()));
+        Assertions.assertEquals(hitsBefore + 1, listHits());
+
+        createUseCase.execute(CreateCategoryCommand.with("Amazon Originals", null, true)).get();
+
+        final var actualPage = listUseCase.execute(aQuery);
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of("Amazon Originals", "Netflix Originals"), names(actualPage.items()));
+        Assertions.assertEquals(hitsBefore + 1, listHits());
+    }
+
+    private double listHits() {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", "category.list", "result", "hit")
+                .functionCounter()
+                .count();
+    }
+
+    private static List<String> names(final List<CategoryListOutput> items) {
+        return items.stream().map(CategoryListOutput::name).toList();
+    }
+}
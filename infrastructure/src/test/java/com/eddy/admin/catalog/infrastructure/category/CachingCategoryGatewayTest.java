@@ -0,0 +1,153 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private CachingCategoryGateway gateway;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        gateway = new CachingCategoryGateway(
+                delegate, 100, Duration.ofMinutes(1), 1_000_000, Duration.ofMinutes(1), registry);
+    }
+
+    @Test
+    void shouldHitTheDelegateOnlyOnceWhenGetByIdIsCalledRepeatedly() {
+        final var aCategory = Category.newCategory("Movies", "Most watched", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.getById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        final var firstCall = gateway.getById(expectedId).get();
+        final var secondCall = gateway.getById(expectedId).get();
+
+        Assertions.assertEquals("Movies", secondCall.getName());
+        Assertions.assertNotSame(firstCall, secondCall);
+        Assertions.assertEquals(1, gets("category.by_id", "hit"));
+        Assertions.assertEquals(1, gets("category.by_id", "miss"));
+        verify(delegate, times(1)).getById(expectedId);
+    }
+
+    @Test
+    void shouldNotLeakMutationsIntoTheCacheWhenTheReturnedCategoryIsChanged() {
+        final var aCategory = Category.newCategory("Movies", "Most watched", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.getById(expectedId)).thenReturn(Optional.of(aCategory.clone()));
+
+        gateway.getById(expectedId).get().update("Series", null, false);
+
+        Assertions.assertEquals("Movies", gateway.getById(expectedId).get().getName());
+    }
+
+    @Test
+    void shouldReloadFromTheDelegateWhenTheCategoryIsUpdated() {
+        final var aCategory = Category.newCategory("Movies", "Most watched", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.getById(expectedId)).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        gateway.getById(expectedId);
+        gateway.update(aCategory.clone().update("Series", null, true));
+        gateway.getById(expectedId);
+
+        verify(delegate, times(2)).getById(expectedId);
+    }
+
+    @Test
+    void shouldReloadFromTheDelegateWhenTheCategoryIsDeleted() {
+        final var aCategory = Category.newCategory("Movies", "Most watched", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.getById(expectedId)).thenReturn(Optional.of(aCategory), Optional.empty());
+
+        gateway.getById(expectedId);
+        gateway.deleteById(expectedId);
+
+        Assertions.assertTrue(gateway.getById(expectedId).isEmpty());
+        verify(delegate, times(1)).deleteById(expectedId);
+    }
+
+    @Test
+    void shouldNotCacheAbsentCategories() {
+        final var expectedId = CategoryID.from("123");
+
+        when(delegate.getById(expectedId)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(gateway.getById(expectedId).isEmpty());
+        Assertions.assertTrue(gateway.getById(expectedId).isEmpty());
+
+        verify(delegate, times(2)).getById(expectedId);
+    }
+
+    @Test
+    void shouldServeTheSameListQueryFromTheCache() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var aPage = new Pagination<>(0, 10, 1, List.of(CategoryListItem.from(Category.newCategory("Movies", null, true))));
+
+        when(delegate.findListItems(aQuery)).thenReturn(aPage);
+
+        gateway.findListItems(aQuery);
+        final var actualPage = gateway.findListItems(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(aPage, actualPage);
+        Assertions.assertEquals(1, gets("category.list", "hit"));
+        Assertions.assertEquals(1, gets("category.list", "miss"));
+        verify(delegate, times(1)).findListItems(aQuery);
+    }
+
+    @Test
+    void shouldReloadEveryListQueryAfterAnyWrite() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var anotherQuery = new CategorySearchQuery(1, 10, "", "name", "asc");
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.findListItems(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(delegate.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        gateway.findListItems(aQuery);
+        gateway.findListItems(anotherQuery);
+        gateway.create(aCategory);
+        gateway.findListItems(aQuery);
+        gateway.findListItems(anotherQuery);
+        gateway.deleteById(aCategory.getId());
+        gateway.findListItems(aQuery);
+
+        verify(delegate, times(3)).findListItems(aQuery);
+        verify(delegate, times(2)).findListItems(anotherQuery);
+    }
+
+    private double gets(final String cache, final String result) {
+        return registry.get("cache.gets").tags("cache", cache, "result", result).functionCounter().count();
+    }
+}
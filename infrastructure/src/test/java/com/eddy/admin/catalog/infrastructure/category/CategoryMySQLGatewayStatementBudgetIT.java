@@ -0,0 +1,105 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.eddy.admin.catalog.StatementBudget.assertAtMost;
+
+@IntegrationTest
+public class CategoryMySQLGatewayStatementBudgetIT {
+
+    @Autowired
+    private CategoryMySQLGateway gateway;
+
+    @Test
+    void shouldMergeAndInsertWhenCreatingACategory() {
+        assertAtMost(2, () -> gateway.create(Category.newCategory("Movies", null, true)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 400})
+    void shouldSendASingleBatchWhenCreatingCategoriesInBulk(final int size) {
+        final var categories = newCategories(size);
+
+        assertAtMost(1, () -> gateway.createAll(categories));
+    }
+
+    @Test
+    void shouldSelectOnceWhenGettingACategoryById() {
+        final var movies = gateway.create(Category.newCategory("Movies", null, true));
+
+        assertAtMost(1, () -> gateway.getById(movies.getId()));
+        assertAtMost(1, () -> gateway.getLatestById(movies.getId()));
+    }
+
+    @Test
+    void shouldMergeAndUpdateWhenUpdatingACategory() {
+        final var movies = gateway.create(Category.newCategory("Movies", null, true));
+
+        assertAtMost(2, () -> gateway.update(Category.with(movies).update("Films", null, true)));
+    }
+
+    @Test
+    void shouldUpdateOnceWhenTheVersionMatches() {
+        final var movies = gateway.getById(gateway.create(Category.newCategory("Movies", null, true)).getId()).get();
+
+        assertAtMost(1, () -> gateway.updateIfVersionMatches(Category.with(movies).update("Films", null, true)));
+    }
+
+    @Test
+    void shouldIssueASingleDeleteWhenDeletingACategory() {
+        assertAtMost(1, () -> gateway.deleteById(CategoryID.unique()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 400})
+    void shouldIssueASingleBulkDeleteWhenDeletingCategoriesInBulk(final int size) {
+        final var ids = IntStream.range(0, size).mapToObj(i -> CategoryID.unique()).toList();
+
+        assertAtMost(1, () -> gateway.deleteByIds(ids));
+    }
+
+    @Test
+    void shouldIssueNoStatementWhenDeletingNoCategories() {
+        assertAtMost(0, () -> gateway.deleteByIds(List.of()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 25})
+    void shouldKeepTheSameBudgetWhenListingPagesOfDifferentSizes(final int perPage) {
+        gateway.createAll(newCategories(60));
+
+        final var firstPage = assertAtMost(2, () -> gateway.findAll(new CategorySearchQuery(0, perPage, "", "name", "asc")));
+        assertAtMost(2, () -> gateway.findListItems(new CategorySearchQuery(0, perPage, "categ", "name", "asc")));
+        // a full page beyond the first selects and counts; only a partial last page can skip the count
+        assertAtMost(2, () -> gateway.findListItems(new CategorySearchQuery(1, perPage, "", "name", "asc")));
+        assertAtMost(2, () -> gateway.findListItems(
+                new CategorySearchQuery(0, perPage, "", "name", "asc", firstPage.nextCursor())));
+
+        Assertions.assertEquals(perPage, firstPage.items().size());
+    }
+
+    @Test
+    void shouldStreamFromASingleQueryWhenExporting() {
+        gateway.createAll(newCategories(30));
+
+        assertAtMost(1, () -> gateway.forEachListItem(item -> {
+        }));
+    }
+
+    private static List<Category> newCategories(final int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> Category.newCategory("Category " + i, null, true))
+                .toList();
+    }
+}
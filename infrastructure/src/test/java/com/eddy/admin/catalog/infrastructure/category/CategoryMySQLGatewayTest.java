@@ -330,6 +330,40 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
         Assertions.assertEquals(movie.getId(), actualResult.items().get(0).getId());
     }
+
+    @Test
+    public void shouldReturnNextPageWhenCallFindAllWithTheNextCursor() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentary = Category.newCategory("Documentary", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentary)
+        ));
+
+        var actualResult = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+
+        Assertions.assertEquals(documentary.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
+
+        actualResult = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
 }
 
 
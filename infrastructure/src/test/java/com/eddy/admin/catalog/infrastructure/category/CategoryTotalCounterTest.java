@@ -0,0 +1,104 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DatabaseConcurrencyLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryTotalCounterTest {
+
+    @Mock
+    private CategoryRepository repository;
+
+    private final Specification<CategoryJpaEntity> specification = (root, query, builder) -> null;
+
+    private CategoryTotalCounter counter;
+
+    @AfterEach
+    void shutdown() {
+        counter.destroy();
+    }
+
+    @Test
+    void shouldCountOnceWhenTheSameTermsAreEstimatedRepeatedly() {
+        counter = newCounter(Duration.ofMinutes(1), 1);
+
+        when(repository.count(specification)).thenReturn(2L, 3L);
+
+        Assertions.assertEquals(2, counter.estimate("movies", specification));
+        Assertions.assertEquals(2, counter.estimate(" MOVIES ", specification));
+        verify(repository, times(1)).count(specification);
+    }
+
+    @Test
+    void shouldServeTheStaleTotalWhileRecountingInBackgroundWhenTheTtlExpires() throws InterruptedException {
+        counter = newCounter(Duration.ofMillis(1), 1);
+        final var recount = new CountDownLatch(1);
+
+        when(repository.count(specification)).thenReturn(2L).thenAnswer(invocation -> {
+            recount.await();
+            return 3L;
+        });
+
+        Assertions.assertEquals(2, counter.estimate("movies", specification));
+        Thread.sleep(5);
+        Assertions.assertEquals(2, counter.estimate("movies", specification));
+
+        recount.countDown();
+        verify(repository, timeout(1_000).times(2)).count(specification);
+    }
+
+    @Test
+    void shouldCountAgainWhenInvalidated() {
+        counter = newCounter(Duration.ofMinutes(1), 1);
+
+        when(repository.count(specification)).thenReturn(2L, 3L);
+
+        Assertions.assertEquals(2, counter.estimate("movies", specification));
+        counter.invalidateAll();
+        Assertions.assertEquals(3, counter.estimate("movies", specification));
+    }
+
+    @Test
+    void shouldKeepTheStaleTotalWhenNoDatabasePermitIsFreeForTheRecount() throws InterruptedException {
+        counter = newCounter(Duration.ofMillis(1), 0);
+
+        when(repository.count(specification)).thenReturn(2L, 3L);
+
+        Assertions.assertEquals(2, counter.estimate("movies", specification));
+        Thread.sleep(5);
+        Assertions.assertEquals(2, counter.estimate("movies", specification));
+        Thread.sleep(200);
+
+        Assertions.assertEquals(2, counter.estimate("movies", specification));
+        verify(repository, times(1)).count(specification);
+    }
+
+    private CategoryTotalCounter newCounter(final Duration ttl, final int permits) {
+        return new CategoryTotalCounter(
+                repository,
+                new DatabaseConcurrencyLimiter(permits, Duration.ofMillis(50)),
+                new StaticListableBeanFactory().getBeanProvider(TaskDecorator.class),
+                ttl,
+                100,
+                1
+        );
+    }
+}
@@ -0,0 +1,97 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DatabaseBusyException;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DatabaseConcurrencyLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitingCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final DatabaseConcurrencyLimiter exportLimiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+
+    @Test
+    void shouldRejectWithDatabaseBusyWhenNoPermitFreesUpInTime() throws Exception {
+        final var limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+        final var gateway = new ConcurrencyLimitingCategoryGateway(delegate, limiter, exportLimiter);
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        when(delegate.getById(any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return Optional.of(aCategory);
+        });
+
+        final var slowRead = CompletableFuture.supplyAsync(() -> gateway.getById(aCategory.getId()));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertThrows(DatabaseBusyException.class, () -> gateway.create(aCategory));
+
+        release.countDown();
+        Assertions.assertEquals(Optional.of(aCategory), slowRead.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void shouldReleaseThePermitWhenTheDelegateFails() {
+        final var limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+        final var gateway = new ConcurrencyLimitingCategoryGateway(delegate, limiter, exportLimiter);
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        doThrow(new IllegalStateException("boom")).when(delegate).deleteById(any());
+        when(delegate.create(any())).thenReturn(aCategory);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.deleteById(aCategory.getId()));
+
+        Assertions.assertEquals(aCategory, gateway.create(aCategory));
+        Assertions.assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void shouldStreamTheExportOnItsOwnPermitsWithoutTakingAQueryPermit() throws Exception {
+        final var limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+        final var gateway = new ConcurrencyLimitingCategoryGateway(delegate, limiter, exportLimiter);
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return null;
+        }).when(delegate).forEachListItem(any());
+        when(delegate.getById(any())).thenReturn(Optional.of(aCategory));
+
+        final var export = CompletableFuture.runAsync(() -> gateway.forEachListItem(item -> {}));
+        Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(Optional.of(aCategory), gateway.getById(aCategory.getId()));
+        Assertions.assertThrows(DatabaseBusyException.class, () -> gateway.forEachListItem(item -> {}));
+
+        release.countDown();
+        export.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, limiter.availablePermits());
+        Assertions.assertEquals(1, exportLimiter.availablePermits());
+    }
+}
@@ -0,0 +1,79 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.category.CategoryListItem;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FlightRecorderCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldRecordAGatewayEventWithTheCallDetails() throws Exception {
+        final var gateway = new FlightRecorderCategoryGateway(delegate);
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var aQuery = new CategorySearchQuery(0, 25, "mov", "name", "asc");
+
+        when(delegate.getById(any())).thenReturn(Optional.of(aCategory));
+        when(delegate.findListItems(any()))
+                .thenReturn(new Pagination<>(0, 25, 1, List.of(CategoryListItem.from(aCategory))));
+        when(delegate.updateIfVersionMatches(any())).thenReturn(7L);
+
+        final List<RecordedEvent> events;
+        try (final var recording = new Recording()) {
+            recording.enable("com.eddy.admin.catalog.Gateway");
+            recording.start();
+
+            gateway.getById(aCategory.getId());
+            gateway.findListItems(aQuery);
+            gateway.updateIfVersionMatches(aCategory);
+
+            recording.stop();
+            final var file = directory.resolve("gateway.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        Assertions.assertEquals(3, events.size());
+
+        final var getById = events.get(0);
+        Assertions.assertEquals("getById", getById.getString("method"));
+        Assertions.assertEquals(aCategory.getId().getValue(), getById.getString("categoryId"));
+        Assertions.assertEquals(1, getById.getLong("rows"));
+
+        final var findListItems = events.get(1);
+        Assertions.assertEquals("findListItems", findListItems.getString("method"));
+        Assertions.assertEquals("mov", findListItems.getString("terms"));
+        Assertions.assertEquals(25, findListItems.getInt("perPage"));
+        Assertions.assertEquals(1, findListItems.getLong("rows"));
+        Assertions.assertFalse(findListItems.getBoolean("failed"));
+
+        final var updateIfVersionMatches = events.get(2);
+        Assertions.assertEquals("updateIfVersionMatches", updateIfVersionMatches.getString("method"));
+        Assertions.assertEquals(7, updateIfVersionMatches.getLong("version"));
+        Assertions.assertEquals(-1, updateIfVersionMatches.getLong("rows"));
+    }
+}
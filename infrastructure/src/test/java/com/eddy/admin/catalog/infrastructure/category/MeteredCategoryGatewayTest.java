@@ -0,0 +1,60 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MeteredCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldTimeEachMethodSeparately() {
+        final var gateway = new MeteredCategoryGateway(delegate, registry);
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.getById(any())).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any())).thenReturn(aCategory);
+
+        gateway.getById(aCategory.getId());
+        gateway.getById(aCategory.getId());
+        gateway.update(aCategory);
+
+        Assertions.assertEquals(2, timerCount("getById", "none"));
+        Assertions.assertEquals(1, timerCount("update", "none"));
+    }
+
+    @Test
+    void shouldTagTheExceptionWhenTheDelegateFails() {
+        final var gateway = new MeteredCategoryGateway(delegate, registry);
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.create(any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.create(aCategory));
+
+        Assertions.assertEquals(1, timerCount("create", "IllegalStateException"));
+    }
+
+    private long timerCount(final String method, final String exception) {
+        final var timer = registry.find(MeteredCategoryGateway.METRIC_NAME)
+                .tag("method", method)
+                .tag("exception", exception)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,91 @@
+package com.eddy.admin.catalog.infrastructure.category;
+
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.infrastructure.configuration.datasource.DataSourceRoute;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRoutingCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final List<DataSourceRoute> routes = new ArrayList<>();
+
+    @Test
+    void shouldReadFromTheReplicaAndWriteToThePrimary() {
+        final var gateway = new ReplicaRoutingCategoryGateway(delegate, Duration.ZERO);
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.getById(any())).thenAnswer(invocation -> {
+            routes.add(DataSourceRoute.current());
+            return Optional.of(aCategory);
+        });
+        when(delegate.create(any())).thenAnswer(invocation -> {
+            routes.add(DataSourceRoute.current());
+            return aCategory;
+        });
+
+        gateway.getById(aCategory.getId());
+        gateway.create(aCategory);
+        gateway.getById(aCategory.getId());
+
+        Assertions.assertEquals(List.of(DataSourceRoute.REPLICA, DataSourceRoute.PRIMARY, DataSourceRoute.REPLICA), routes);
+        Assertions.assertEquals(DataSourceRoute.PRIMARY, DataSourceRoute.current());
+    }
+
+    @Test
+    void shouldKeepReadsOnThePrimaryRightAfterAWriteWhenReadYourWritesIsEnabled() {
+        final var gateway = new ReplicaRoutingCategoryGateway(delegate, Duration.ofMinutes(1));
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.getById(any())).thenAnswer(invocation -> {
+            routes.add(DataSourceRoute.current());
+            return Optional.of(aCategory);
+        });
+
+        gateway.getById(aCategory.getId());
+        gateway.deleteById(aCategory.getId());
+        gateway.getById(aCategory.getId());
+
+        Assertions.assertEquals(List.of(DataSourceRoute.REPLICA, DataSourceRoute.PRIMARY), routes);
+    }
+
+    @Test
+    void shouldReadTheLatestRowFromThePrimaryWhenNoWriteWasMade() {
+        final var gateway = new ReplicaRoutingCategoryGateway(delegate, Duration.ZERO);
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(delegate.getLatestById(any())).thenAnswer(invocation -> {
+            routes.add(DataSourceRoute.current());
+            return Optional.of(aCategory);
+        });
+
+        gateway.getLatestById(aCategory.getId());
+
+        Assertions.assertEquals(List.of(DataSourceRoute.PRIMARY), routes);
+    }
+
+    @Test
+    void shouldRestoreTheRouteWhenTheReadFails() {
+        final var gateway = new ReplicaRoutingCategoryGateway(delegate, Duration.ZERO);
+
+        when(delegate.getById(any())).thenThrow(new IllegalStateException("replica down"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.getById(null));
+        Assertions.assertEquals(DataSourceRoute.PRIMARY, DataSourceRoute.current());
+    }
+}
@@ -0,0 +1,43 @@
+package com.eddy.admin.catalog.infrastructure.category.persistence;
+
+import com.eddy.admin.catalog.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class CategoryIdJavaTypeTest {
+
+    private final CategoryIdJavaType javaType = new CategoryIdJavaType();
+
+    @Test
+    void shouldStoreAnUuidInSixteenBytesAndReadItBack() {
+        final var expectedId = CategoryID.unique().getValue();
+
+        final var actualBytes = javaType.unwrap(expectedId, byte[].class, null);
+
+        Assertions.assertEquals(16, actualBytes.length);
+        Assertions.assertEquals(expectedId, javaType.wrap(actualBytes, null));
+    }
+
+    @Test
+    void shouldKeepTheStringOrderOfUuids() {
+        final var lower = CategoryIdJavaType.toBytes("0fffffff-ffff-4fff-bfff-ffffffffffff");
+        final var upper = CategoryIdJavaType.toBytes("a0000000-0000-4000-8000-000000000000");
+
+        Assertions.assertTrue(Arrays.compareUnsigned(lower, upper) < 0);
+    }
+
+    @Test
+    void shouldNotFailWhenIdIsNotAnUuid() {
+        final var actualBytes = Assertions.assertDoesNotThrow(() -> CategoryIdJavaType.toBytes("123"));
+
+        Assertions.assertEquals(3, actualBytes.length);
+    }
+
+    @Test
+    void shouldKeepNullValues() {
+        Assertions.assertNull(javaType.unwrap(null, byte[].class, null));
+        Assertions.assertNull(javaType.wrap(null, null));
+    }
+}
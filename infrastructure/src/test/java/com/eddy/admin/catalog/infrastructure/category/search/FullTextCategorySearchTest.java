@@ -0,0 +1,47 @@
+package com.eddy.admin.catalog.infrastructure.category.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.domain.Sort;
+
+public class FullTextCategorySearchTest {
+
+    private final FullTextCategorySearch search = new FullTextCategorySearch();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "netflix|+netflix*",
+            "Netflix Originals|+Netflix* +Originals*",
+            "  netflix   originals  |+netflix* +originals*",
+            "+netflix -originals|+netflix* +originals*",
+            "\"amazon prime\" (kids)|+amazon* +prime* +kids*",
+            "net* ~flix <a >b @2|+net* +flix*",
+            "tv shows|+shows*",
+            "the office|+office*",
+            "THE Office Of Kids|+Office* +Kids*",
+    })
+    void shouldRequireEveryIndexableWordAsAPrefixWhenBuildingTheBooleanQuery(final String terms, final String expectedQuery) {
+        Assertions.assertEquals(expectedQuery, FullTextCategorySearch.toBooleanQuery(terms));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "+-~*",
+            "\"\"",
+            "tv",
+            "the",
+            "to be or",
+    })
+    void shouldFallBackToLikeWithoutRankingWhenNoIndexableWordIsLeft(final String terms) {
+        Assertions.assertEquals("", FullTextCategorySearch.toBooleanQuery(terms));
+        Assertions.assertNotNull(search.matching(terms));
+        Assertions.assertNull(search.ranking(terms, Sort.by("name")));
+    }
+
+    @Test
+    void shouldRankByRelevanceWhenTheTermsAreIndexable() {
+        Assertions.assertNotNull(search.ranking("originals", Sort.by("name")));
+    }
+}
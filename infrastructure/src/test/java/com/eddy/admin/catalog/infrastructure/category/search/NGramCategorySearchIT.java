@@ -0,0 +1,118 @@
+package com.eddy.admin.catalog.infrastructure.category.search;
+
+import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.eddy.admin.catalog.application.category.retrieve.list.ListCategoryUseCase;
+import com.eddy.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.eddy.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@IntegrationTest
+@TestPropertySource(properties = "category.search.strategy=ngram")
+public class NGramCategorySearchIT {
+
+    @Autowired
+    private CreateCategoryUseCase createUseCase;
+
+    @Autowired
+    private UpdateCategoryUseCase updateUseCase;
+
+    @Autowired
+    private DeleteCategoryUseCase deleteUseCase;
+
+    @Autowired
+    private ListCategoryUseCase listUseCase;
+
+    @Autowired
+    private CategorySearchStrategy search;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Autowired
+    private TransactionTemplate transaction;
+
+    @Test
+    void shouldKeepTheIndexUpToDateWhenCategoriesAreWritten() {
+        Assertions.assertInstanceOf(NGramCategorySearch.class, search);
+
+        final var netflix = createUseCase.execute(CreateCategoryCommand.with("Netflix Originals", "Netflix Titles", true)).get();
+        final var amazon = createUseCase.execute(CreateCategoryCommand.with("Amazon Originals", "Amazon Prime Titles", true)).get();
+        createUseCase.execute(CreateCategoryCommand.with("Documentary", null, true));
+
+        Assertions.assertEquals(List.of("Amazon Originals", "Netflix Originals"), search("origin"));
+        Assertions.assertEquals(List.of("Amazon Originals"), search("prime tit"));
+
+        updateUseCase.execute(UpdateCategoryCommand.with(amazon.id(), "Prime Video", "Amazon Prime Titles", true));
+        deleteUseCase.execute(netflix.id());
+
+        Assertions.assertEquals(List.of(), search("origin"));
+        Assertions.assertEquals(List.of("Prime Video"), search("video"));
+        Assertions.assertEquals(List.of("Documentary"), search("do"));
+    }
+
+    @Test
+    void shouldFindCategoriesWrittenByAnotherInstanceWhenTheIndexIsRefreshed() {
+        final var ngramSearch = (NGramCategorySearch) search;
+        ngramSearch.rebuild();
+
+        final var disney = repository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Disney Classics", null, true)));
+        Assertions.assertEquals(List.of(), search("disney"));
+
+        ngramSearch.refresh();
+        Assertions.assertEquals(List.of("Disney Classics"), search("classics"));
+
+        repository.saveAndFlush(CategoryJpaEntity.from(
+                Category.with(disney.toAggregate()).update("Pixar Classics", null, true)));
+        ngramSearch.refresh();
+        Assertions.assertEquals(List.of("Pixar Classics"), search("pixar"));
+    }
+
+    @Test
+    void shouldKeepCategoriesWrittenThroughThisInstanceWhenTheIndexIsRebuilt() {
+        final var ngramSearch = (NGramCategorySearch) search;
+        createUseCase.execute(CreateCategoryCommand.with("Marvel Studios", null, true));
+
+        ngramSearch.rebuild();
+
+        Assertions.assertEquals(List.of("Marvel Studios"), search("marvel"));
+    }
+
+    @Test
+    void shouldSearchWithLikeWhenThereAreMoreRowsThanTheIndexMayHold() {
+        final var tooSmall = new NGramCategorySearch(
+                repository, transaction, 5000, 1, Duration.ofSeconds(30), Duration.ofHours(1));
+        repository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Disney Classics", null, true)));
+        repository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Marvel Studios", null, true)));
+
+        tooSmall.rebuild();
+        repository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Pixar Classics", null, true)));
+
+        final var actualNames = repository.findAll(tooSmall.matching("pixar")).stream()
+                .map(CategoryJpaEntity::getName)
+                .toList();
+        Assertions.assertEquals(List.of("Pixar Classics"), actualNames);
+    }
+
+    private List<String> search(final String terms) {
+        return listUseCase.execute(new CategorySearchQuery(0, 10, terms, "name", "asc"))
+                .items()
+                .stream()
+                .map(CategoryListOutput::name)
+                .toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.eddy.admin.catalog.infrastructure.category.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+public class TrigramIndexTest {
+
+    @Test
+    void shouldReturnCandidatesContainingEveryTrigramOfTheTerm() {
+        final var index = new TrigramIndex();
+        index.put("1", "Netflix Originals", "Netflix Titles");
+        index.put("2", "Amazon Originals", "Amazon Prime Titles");
+        index.put("3", "Documentary", null);
+
+        Assertions.assertEquals(Optional.of(Set.of("1", "2")), index.candidates("originals"));
+        Assertions.assertEquals(Optional.of(Set.of("2")), index.candidates("ZON"));
+        Assertions.assertEquals(Optional.of(Set.of()), index.candidates("sports"));
+        Assertions.assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldNotMatchTrigramsSpanningTwoTextsOfTheSameCategory() {
+        final var index = new TrigramIndex();
+        index.put("1", "Anime", "Series");
+
+        Assertions.assertEquals(Optional.of(Set.of()), index.candidates("meser"));
+    }
+
+    @Test
+    void shouldNotUseTheIndexWhenTermIsShorterThanATrigram() {
+        final var index = new TrigramIndex();
+        index.put("1", "Kids", null);
+
+        Assertions.assertTrue(index.candidates("KI").isEmpty());
+    }
+
+    @Test
+    void shouldReplaceTrigramsWhenADocumentIsUpdatedOrRemoved() {
+        final var index = new TrigramIndex();
+        index.put("1", "Films", null);
+        index.put("1", "Series", null);
+
+        Assertions.assertEquals(Optional.of(Set.of()), index.candidates("film"));
+        Assertions.assertEquals(Optional.of(Set.of("1")), index.candidates("serie"));
+
+        index.remove("1");
+
+        Assertions.assertEquals(Optional.of(Set.of()), index.candidates("serie"));
+        Assertions.assertEquals(0, index.size());
+    }
+
+    @Test
+    void shouldKeepPostingsSortedWhenAnEarlierDocumentIsUpdatedAfterLaterOnes() {
+        final var index = new TrigramIndex();
+        index.put("1", "Kids", null);
+        index.put("2", "Family Movies", null);
+        index.put("3", "Family Series", null);
+        index.put("1", "Family Kids", null);
+
+        Assertions.assertEquals(Optional.of(Set.of("1", "2", "3")), index.candidates("family"));
+        Assertions.assertEquals(Optional.of(Set.of("1")), index.candidates("family kids"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+import com.eddy.admin.catalog.IntegrationTest;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.list.ListCategoryUseCase;
+import com.eddy.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.eddy.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.eddy.admin.catalog.domain.category.Category;
+import com.eddy.admin.catalog.domain.category.CategorySearchQuery;
+import com.eddy.admin.catalog.domain.exceptions.NotFoundException;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.eddy.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "spring.datasource.replica.url=jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "category.datasource.read-your-writes=0s"
+})
+public class ReadReplicaDataSourceIT {
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Autowired
+    private CreateCategoryUseCase createUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getUseCase;
+
+    @Autowired
+    private ListCategoryUseCase listUseCase;
+
+    @Autowired
+    private UpdateCategoryUseCase updateUseCase;
+
+    @BeforeEach
+    void setUpReplica() {
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        DataSourceRoute.REPLICA.call(() -> {
+            repository.deleteAll();
+            return null;
+        });
+    }
+
+    @Test
+    void shouldListFromTheReplicaWhenTheReplicaIsConfigured() {
+        DataSourceRoute.REPLICA.call(() -> repository.saveAndFlush(
+                CategoryJpaEntity.from(Category.newCategory("Replicated", null, true))));
+
+        final var actualResult = listUseCase.execute(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals("Replicated", actualResult.items().get(0).name());
+        Assertions.assertEquals(0, repository.count());
+    }
+
+    @Test
+    void shouldWriteToThePrimaryWhenTheReplicaIsConfigured() {
+        createUseCase.execute(CreateCategoryCommand.with("Movies", null, true)).get();
+
+        Assertions.assertEquals(1, repository.count());
+        Assertions.assertEquals(0L, DataSourceRoute.REPLICA.call(() -> repository.count()));
+    }
+
+    @Test
+    void shouldUpdateFromThePrimaryWhenTheReplicaHasNotCaughtUp() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        final var expectedId = aCategory.getId();
+
+        Assertions.assertThrows(NotFoundException.class, () -> getUseCase.execute(expectedId.getValue()));
+
+        final var actualOutput = updateUseCase.execute(
+                UpdateCategoryCommand.with(expectedId.getValue(), "Movies", null, true)).get();
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertEquals("Movies", repository.findById(expectedId.getValue()).get().getName());
+        Assertions.assertEquals(0L, DataSourceRoute.REPLICA.call(() -> repository.count()));
+    }
+}
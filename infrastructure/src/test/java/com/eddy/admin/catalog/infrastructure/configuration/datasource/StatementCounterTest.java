@@ -0,0 +1,53 @@
+package com.eddy.admin.catalog.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+public class StatementCounterTest {
+
+    @Test
+    void shouldAddNestedStatementsToEveryOpenScope() {
+        try (final var request = StatementCounter.open()) {
+            StatementCounter.increment();
+
+            try (final var useCase = StatementCounter.open()) {
+                StatementCounter.increment();
+                StatementCounter.increment();
+
+                Assertions.assertEquals(2, useCase.count());
+            }
+
+            StatementCounter.increment();
+            Assertions.assertEquals(4, request.count());
+        }
+    }
+
+    @Test
+    void shouldNotCountOutsideAScope() {
+        StatementCounter.increment();
+
+        try (final var scope = StatementCounter.open()) {
+            Assertions.assertEquals(0, scope.count());
+        }
+    }
+
+    @Test
+    void shouldCountStatementsRunByAPropagatedTask() {
+        try (final var request = StatementCounter.open()) {
+            final var task = StatementCounter.propagate(StatementCounter::increment);
+
+            CompletableFuture.runAsync(task).join();
+
+            Assertions.assertEquals(1, request.count());
+        }
+
+        final var worker = CompletableFuture.supplyAsync(() -> {
+            try (final var scope = StatementCounter.open()) {
+                return scope.count();
+            }
+        });
+        Assertions.assertEquals(0, worker.join());
+    }
+}
@@ -0,0 +1,54 @@
+package com.eddy.admin.catalog.infrastructure.configuration.jfr;
+
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+public class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint =
+            new FlightRecordingEndpoint(Duration.ofSeconds(30), Duration.ofMinutes(1), 16 * 1024 * 1024);
+
+    @AfterEach
+    void discard() {
+        endpoint.discard();
+    }
+
+    @Test
+    void shouldLeaveOutTheEventsThatCarryCredentialsWhenDumping(@TempDir final Path dir) throws Exception {
+        endpoint.start(null);
+
+        final var capture = dir.resolve("capture.jfr");
+        try (final var content = endpoint.dump().getBody().getInputStream()) {
+            Files.copy(content, capture);
+        }
+
+        final var actualEventTypes = RecordingFile.readAllEvents(capture).stream()
+                .map(event -> event.getEventType().getName())
+                .distinct()
+                .toList();
+
+        Assertions.assertFalse(actualEventTypes.isEmpty());
+        Assertions.assertTrue(
+                actualEventTypes.stream().noneMatch(Set.of(
+                        "jdk.InitialEnvironmentVariable",
+                        "jdk.InitialSystemProperty",
+                        "jdk.JVMInformation",
+                        "jdk.SystemProcess"
+                )::contains),
+                actualEventTypes::toString
+        );
+    }
+
+    @Test
+    void shouldAnswerNotFoundWhenNoRecordingWasStarted() {
+        Assertions.assertEquals(404, endpoint.dump().getStatus());
+    }
+}
@@ -0,0 +1,58 @@
+package com.eddy.admin.catalog.infrastructure.configuration.json;
+
+import com.eddy.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NdjsonReaderTest {
+
+    @Test
+    void shouldNumberEveryLineAndSkipTheBlankOnesWhenReading() {
+        final var actualLines = read("""
+                {"name": "Movies"}\r
+                \r
+
+                {"name": "Séries", "is_active": true}""", 64);
+
+        Assertions.assertEquals(List.of(1L, 4L), actualLines.stream().map(NdjsonReader.Line::number).toList());
+        Assertions.assertEquals("Movies", actualLines.get(0).value().get().name());
+        Assertions.assertEquals("Séries", actualLines.get(1).value().get().name());
+    }
+
+    @Test
+    void shouldReportTheColumnAndKeepReadingWhenALineIsMalformed() {
+        final var actualLines = read("""
+                {"name": "Movies", }
+                {"name": "Series"}
+                """, 64);
+
+        Assertions.assertEquals(2, actualLines.size());
+        Assertions.assertTrue(actualLines.get(0).value().getLeft().endsWith("(column 21)"), actualLines.get(0).value().getLeft());
+        Assertions.assertEquals("Series", actualLines.get(1).value().get().name());
+    }
+
+    @Test
+    void shouldSkipALineLongerThanTheLimitWithoutEndingTheStream() {
+        final var actualLines = read("""
+                {"name": "%s"}
+                {"name": "Series"}
+                """.formatted("x".repeat(20_000)), 64);
+
+        Assertions.assertEquals(2, actualLines.size());
+        Assertions.assertEquals("Line is longer than 64 bytes", actualLines.get(0).value().getLeft());
+        Assertions.assertEquals(2, actualLines.get(1).number());
+        Assertions.assertEquals("Series", actualLines.get(1).value().get().name());
+    }
+
+    private static List<NdjsonReader.Line<CreateCategoryRequest>> read(final String body, final int maxLineSize) {
+        final var in = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        final var lines = new ArrayList<NdjsonReader.Line<CreateCategoryRequest>>();
+        Json.ndjsonReader(in, CreateCategoryRequest.class, maxLineSize).forEachRemaining(lines::add);
+        return lines;
+    }
+}
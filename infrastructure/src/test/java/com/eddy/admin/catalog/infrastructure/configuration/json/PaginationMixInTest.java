@@ -0,0 +1,50 @@
+package com.eddy.admin.catalog.infrastructure.configuration.json;
+
+import com.eddy.admin.catalog.domain.pagination.Pagination;
+import com.eddy.admin.catalog.infrastructure.category.models.ListCategoryResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+public class PaginationMixInTest {
+
+    @Test
+    void shouldWriteThePageWithTheSameShapeAsTheRecord() {
+        final var createdAt = Instant.parse("2024-01-01T10:15:30Z");
+        final var aPage = new Pagination<>(0, 2, 3, true, List.of(
+                new ListCategoryResponse("1", "Movies", null, true, createdAt, null),
+                new ListCategoryResponse("2", "Series", "Most watched", false, createdAt, null)
+        ), "cursor");
+
+        final var expectedJson = """
+                {"current_page":0,"per_page":2,"total":3,"has_next":true,"items":[\
+                {"id":"1","name":"Movies","description":null,"is_active":true,"created_at":"2024-01-01T10:15:30Z","deleted_at":null},\
+                {"id":"2","name":"Series","description":"Most watched","is_active":false,"created_at":"2024-01-01T10:15:30Z","deleted_at":null}\
+                ],"next_cursor":"cursor"}""";
+
+        Assertions.assertEquals(expectedJson, Json.writeValueAsString(aPage));
+    }
+
+    @Test
+    void shouldWriteANullTotalWhenTheTotalIsUnknown() {
+        final var aPage = new Pagination<>(1, 10, Pagination.UNKNOWN_TOTAL, false, List.of("Movies"), null);
+
+        Assertions.assertEquals(
+                "{\"current_page\":1,\"per_page\":10,\"total\":null,\"has_next\":false,\"items\":[\"Movies\"],\"next_cursor\":null}",
+                Json.writeValueAsString(aPage)
+        );
+    }
+
+    @Test
+    void shouldWriteTheItemsOfAMappedPage() {
+        final var aPage = new Pagination<>(0, 10, 2, List.of("Movies", "Series"))
+                .map(String::toUpperCase);
+
+        Assertions.assertEquals(
+                "{\"current_page\":0,\"per_page\":10,\"total\":2,\"has_next\":false,\"items\":[\"MOVIES\",\"SERIES\"],\"next_cursor\":null}",
+                Json.writeValueAsString(aPage)
+        );
+    }
+}
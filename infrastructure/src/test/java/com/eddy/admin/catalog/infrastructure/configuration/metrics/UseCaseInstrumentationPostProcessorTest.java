@@ -0,0 +1,89 @@
+package com.eddy.admin.catalog.infrastructure.configuration.metrics;
+
+import com.eddy.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.eddy.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.eddy.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.eddy.admin.catalog.domain.category.CategoryGateway;
+import com.eddy.admin.catalog.domain.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UseCaseInstrumentationPostProcessorTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldTimeUseCaseExecutionsByOutcome() {
+        final var postProcessor = new UseCaseInstrumentationPostProcessor(registryProvider());
+        final var useCase = (CreateCategoryUseCase) postProcessor.postProcessAfterInitialization(
+                new DefaultCreateCategoryUseCase(categoryGateway), "createCategoryUseCase");
+
+        when(categoryGateway.create(any())).then(returnsFirstArg());
+
+        Assertions.assertTrue(useCase.execute(CreateCategoryCommand.with("Movies", null, true)).isRight());
+        Assertions.assertTrue(useCase.execute(CreateCategoryCommand.with(null, null, true)).isLeft());
+
+        Assertions.assertEquals(1, timerCount("success"));
+        Assertions.assertEquals(1, timerCount("notification"));
+    }
+
+    @Test
+    void shouldTagTheExceptionWhenTheUseCaseThrows() {
+        final var postProcessor = new UseCaseInstrumentationPostProcessor(registryProvider());
+        final var useCase = (GetCategoryByIdUseCase) postProcessor.postProcessAfterInitialization(
+                new DefaultGetCategoryByIdUseCase(categoryGateway), "getCategoryByIdUseCase");
+
+        when(categoryGateway.getById(any())).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute("123"));
+
+        final var timer = registry.find(UseCaseInstrumentationPostProcessor.METRIC_NAME)
+                .tag("use_case", "GetCategoryByIdUseCase")
+                .tag("outcome", "exception")
+                .tag("exception", "NotFoundException")
+                .timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+    }
+
+    @Test
+    void shouldLeaveOtherBeansUntouched() {
+        final var postProcessor = new UseCaseInstrumentationPostProcessor(registryProvider());
+        final var bean = new Object();
+
+        Assertions.assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+
+    private long timerCount(final String outcome) {
+        final var timer = registry.find(UseCaseInstrumentationPostProcessor.METRIC_NAME)
+                .tag("use_case", "CreateCategoryUseCase")
+                .tag("outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private ObjectProvider<MeterRegistry> registryProvider() {
+        final var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+}
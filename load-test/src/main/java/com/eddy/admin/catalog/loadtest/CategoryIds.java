@@ -0,0 +1,41 @@
+package com.eddy.admin.catalog.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Ids the load test knows to exist. Deletes take an id out before the request is sent, so reads and updates
+ * rarely target a category that is already gone.
+ */
+final class CategoryIds {
+
+    private final List<String> ids = new ArrayList<>();
+
+    synchronized void addAll(final Collection<String> newIds) {
+        ids.addAll(newIds);
+    }
+
+    synchronized void add(final String id) {
+        ids.add(id);
+    }
+
+    synchronized Optional<String> any(final Random random) {
+        return ids.isEmpty() ? Optional.empty() : Optional.of(ids.get(random.nextInt(ids.size())));
+    }
+
+    synchronized Optional<String> take(final Random random) {
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        final var index = random.nextInt(ids.size());
+        final var last = ids.remove(ids.size() - 1);
+        return Optional.of(index == ids.size() ? last : ids.set(index, last));
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+}
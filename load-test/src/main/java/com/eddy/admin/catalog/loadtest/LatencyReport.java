@@ -0,0 +1,99 @@
+package com.eddy.admin.catalog.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies are recorded in microseconds, with three significant digits, per operation and overall.
+ */
+final class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> skipped = new EnumMap<>(Operation.class);
+    private final Histogram all = histogram();
+    private long elapsedNanos;
+
+    LatencyReport() {
+        for (final var operation : Operation.values()) {
+            latencies.put(operation, histogram());
+            errors.put(operation, new LongAdder());
+            skipped.put(operation, new LongAdder());
+        }
+    }
+
+    void record(final Operation operation, final long latencyNanos, final boolean success) {
+        final var micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        latencies.get(operation).recordValue(micros);
+        all.recordValue(micros);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    void skipped(final Operation operation) {
+        skipped.get(operation).increment();
+    }
+
+    void finished(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    String format(final LoadTestConfig config) {
+        final var buffer = new ByteArrayOutputStream();
+        try (final var out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            final var seconds = elapsedNanos / 1_000_000_000d;
+
+            out.printf("Category API load test%n");
+            out.printf("target rate: %,d req/s (open loop, latency measured from the scheduled send time)%n", config.rate());
+            out.printf("measured: %s after %s warmup, %,d seeded categories, random seed %d%n%n",
+                    config.duration(), config.warmup(), config.seed(), config.randomSeed());
+
+            out.printf("%-10s %10s %8s %8s %12s %9s %9s %9s %9s %9s%n",
+                    "operation", "count", "errors", "skipped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (final var operation : Operation.values()) {
+                row(out, operation.name().toLowerCase(), latencies.get(operation), errors.get(operation).sum(), skipped.get(operation).sum(), seconds);
+            }
+            row(out, "all", all, errors.values().stream().mapToLong(LongAdder::sum).sum(), skipped.values().stream().mapToLong(LongAdder::sum).sum(), seconds);
+
+            out.printf("%nLatency distribution of all requests (ms)%n");
+            all.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void row(
+            final PrintStream out,
+            final String name,
+            final Histogram histogram,
+            final long errors,
+            final long skipped,
+            final double seconds
+    ) {
+        out.printf("%-10s %,10d %,8d %,8d %,12.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errors,
+                skipped,
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private static Histogram histogram() {
+        return new ConcurrentHistogram(3);
+    }
+}
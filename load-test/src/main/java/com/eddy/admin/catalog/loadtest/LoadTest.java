@@ -0,0 +1,90 @@
+package com.eddy.admin.catalog.loadtest;
+
+import com.eddy.admin.catalog.infrastructure.category.models.BatchCreateCategoryResponse;
+import com.eddy.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
+import com.eddy.admin.catalog.infrastructure.configuration.WebServerConfig;
+import com.eddy.admin.catalog.infrastructure.configuration.json.Json;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * Boots the API in-process on the H2 test-integration profile, seeds it and drives it over HTTP.
+ */
+public final class LoadTest {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var config = LoadTestConfig.fromSystemProperties();
+
+        try (final var app = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-integration")
+                .run(
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.root=WARN"
+                );
+             final var client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build()) {
+
+            final var port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            final var baseUri = URI.create("http://localhost:" + port + "/");
+
+            final var ids = new CategoryIds();
+            seed(client, baseUri, ids, config.seed());
+
+            final var generator = new OpenLoopGenerator(client, baseUri, ids, config.mix(), new Random(config.randomSeed()));
+            generator.run(config.rate(), config.warmup());
+            final var report = generator.run(config.rate(), config.duration()).format(config);
+
+            Files.createDirectories(config.report().toAbsolutePath().getParent());
+            Files.writeString(config.report(), report);
+            System.out.println(report);
+            System.out.println("Report written to " + config.report().toAbsolutePath());
+        }
+    }
+
+    private static void seed(final HttpClient client, final URI baseUri, final CategoryIds ids, final int count)
+            throws IOException, InterruptedException {
+        for (int from = 0; from < count; from += SEED_BATCH_SIZE) {
+            final var batch = IntStream.range(from, Math.min(count, from + SEED_BATCH_SIZE))
+                    .mapToObj(i -> new CreateCategoryRequest("Category " + i, "Seeded category " + i, i % 10 != 0))
+                    .toList();
+
+            final var request = HttpRequest.newBuilder(baseUri.resolve("categories/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(Json.writeValueAsString(batch)))
+                    .build();
+
+            final var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with status %d: %s".formatted(response.statusCode(), response.body()));
+            }
+
+            ids.addAll(Arrays.stream(Json.readValue(response.body(), BatchCreateCategoryResponse[].class))
+                    .map(BatchCreateCategoryResponse::id)
+                    .filter(Objects::nonNull)
+                    .toList());
+        }
+    }
+}
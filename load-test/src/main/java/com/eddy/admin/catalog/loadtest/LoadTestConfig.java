@@ -0,0 +1,44 @@
+package com.eddy.admin.catalog.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+record LoadTestConfig(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int seed,
+        Map<Operation, Integer> mix,
+        long randomSeed,
+        Path report
+) {
+
+    private static final String DEFAULT_MIX = "create=10,get=40,list=20,search=10,update=15,delete=5";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("load.rate", 500),
+                Duration.parse("PT" + System.getProperty("load.warmup", "10s").toUpperCase(Locale.ROOT)),
+                Duration.parse("PT" + System.getProperty("load.duration", "60s").toUpperCase(Locale.ROOT)),
+                Integer.getInteger("load.seed", 10_000),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+                Long.getLong("load.random-seed", 42L),
+                Path.of(System.getProperty("load.report", "build/load-test/report.txt"))
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(final String mix) {
+        final var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (final var entry : mix.split(",")) {
+            final var parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry '%s', expected operation=weight".formatted(entry));
+            }
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
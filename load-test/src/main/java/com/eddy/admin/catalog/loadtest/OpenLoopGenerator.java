@@ -0,0 +1,107 @@
+package com.eddy.admin.catalog.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on a fixed schedule no matter how fast the server answers. Each latency is measured from the
+ * time the request was due, not from when it was actually sent, so a stalled server is charged for the requests
+ * it held back instead of hiding them (coordinated omission).
+ */
+final class OpenLoopGenerator {
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final CategoryIds ids;
+    private final Random random;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    OpenLoopGenerator(
+            final HttpClient client,
+            final URI baseUri,
+            final CategoryIds ids,
+            final Map<Operation, Integer> mix,
+            final Random random
+    ) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.ids = ids;
+        this.random = random;
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+
+        var total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("load.mix must have at least one operation with a positive weight");
+        }
+    }
+
+    LatencyReport run(final int rate, final Duration duration) {
+        final var report = new LatencyReport();
+        final var periodNanos = 1_000_000_000L / rate;
+        final var requests = duration.toNanos() / periodNanos;
+
+        final var start = System.nanoTime();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                final var intendedStart = start + i * periodNanos;
+                waitUntil(intendedStart);
+
+                final var operation = next();
+                final var request = operation.request(baseUri, ids, random);
+                if (request.isEmpty()) {
+                    report.skipped(operation);
+                    continue;
+                }
+                executor.execute(() -> send(operation, request.get(), intendedStart, report));
+            }
+        }
+        report.finished(System.nanoTime() - start);
+        return report;
+    }
+
+    private void send(final Operation operation, final HttpRequest request, final long intendedStart, final LatencyReport report) {
+        try {
+            final var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            final var success = response.statusCode() / 100 == 2;
+            report.record(operation, System.nanoTime() - intendedStart, success);
+
+            if (success && operation == Operation.CREATE) {
+                response.headers().firstValue("Location")
+                        .map(location -> location.substring(location.lastIndexOf('/') + 1))
+                        .ifPresent(ids::add);
+            }
+        } catch (final Exception e) {
+            report.record(operation, System.nanoTime() - intendedStart, false);
+        }
+    }
+
+    private Operation next() {
+        final var pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private static void waitUntil(final long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
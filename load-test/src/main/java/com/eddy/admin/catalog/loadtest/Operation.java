@@ -0,0 +1,66 @@
+package com.eddy.admin.catalog.loadtest;
+
+import com.eddy.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
+import com.eddy.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
+import com.eddy.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Random;
+
+enum Operation {
+    CREATE {
+        @Override
+        Optional<HttpRequest> request(final URI baseUri, final CategoryIds ids, final Random random) {
+            final var body = new CreateCategoryRequest("Category " + random.nextInt(1_000_000), "Created by the load test", true);
+            return Optional.of(json(baseUri.resolve("categories")).POST(HttpRequest.BodyPublishers.ofString(Json.writeValueAsString(body))).build());
+        }
+    },
+    GET {
+        @Override
+        Optional<HttpRequest> request(final URI baseUri, final CategoryIds ids, final Random random) {
+            return ids.any(random).map(id -> HttpRequest.newBuilder(baseUri.resolve("categories/" + id)).GET().build());
+        }
+    },
+    LIST {
+        @Override
+        Optional<HttpRequest> request(final URI baseUri, final CategoryIds ids, final Random random) {
+            final var uri = baseUri.resolve("categories?perPage=10&page=" + random.nextInt(10));
+            return Optional.of(HttpRequest.newBuilder(uri).GET().build());
+        }
+    },
+    SEARCH {
+        @Override
+        Optional<HttpRequest> request(final URI baseUri, final CategoryIds ids, final Random random) {
+            final var terms = URLEncoder.encode("Category " + random.nextInt(100), StandardCharsets.UTF_8);
+            return Optional.of(HttpRequest.newBuilder(baseUri.resolve("categories?perPage=10&search=" + terms)).GET().build());
+        }
+    },
+    UPDATE {
+        @Override
+        Optional<HttpRequest> request(final URI baseUri, final CategoryIds ids, final Random random) {
+            final var body = new UpdateCategoryRequest("Updated " + random.nextInt(1_000_000), "Updated by the load test", random.nextBoolean());
+            return ids.any(random).map(id -> json(baseUri.resolve("categories/" + id))
+                    .PUT(HttpRequest.BodyPublishers.ofString(Json.writeValueAsString(body)))
+                    .build());
+        }
+    },
+    DELETE {
+        @Override
+        Optional<HttpRequest> request(final URI baseUri, final CategoryIds ids, final Random random) {
+            return ids.take(random).map(id -> HttpRequest.newBuilder(baseUri.resolve("categories/" + id)).DELETE().build());
+        }
+    };
+
+    /**
+     * Builds the next request of this kind, or nothing when it needs an existing category and none is left.
+     */
+    abstract Optional<HttpRequest> request(URI baseUri, CategoryIds ids, Random random);
+
+    private static HttpRequest.Builder json(final URI uri) {
+        return HttpRequest.newBuilder(uri).header("Content-Type", "application/json");
+    }
+}